@@ -1,6 +1,9 @@
 package memoapp.config;
 
+import memoapp.metrics.QueryCountHeaderAdvice;
+import memoapp.service.IdempotencyService;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -13,6 +16,8 @@ public class CorsConfig implements WebMvcConfigurer {
                 .allowedOrigins("*")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(HttpHeaders.ETAG, IdempotencyService.REPLAYED_HEADER,
+                        QueryCountHeaderAdvice.QUERY_COUNT_HEADER, QueryCountHeaderAdvice.QUERY_TIME_HEADER)
                 .maxAge(3600);
     }
 }
\ No newline at end of file
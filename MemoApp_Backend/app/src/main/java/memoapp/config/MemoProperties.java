@@ -0,0 +1,403 @@
+package memoapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Application-specific settings bound from the {@code memo.*} properties.
+ * 
+ * Defaults are suitable for development; override them in application.yml
+ * or through environment variables for production workloads.
+ */
+@ConfigurationProperties(prefix = "memo")
+public class MemoProperties {
+    
+    private final Bulk bulk = new Bulk();
+    private final Cache cache = new Cache();
+    private final Etag etag = new Etag();
+    private final Events events = new Events();
+    private final Sync sync = new Sync();
+    private final Reactive reactive = new Reactive();
+    private final QueryBudget queryBudget = new QueryBudget();
+    private final WriteBehind writeBehind = new WriteBehind();
+    private final Idempotency idempotency = new Idempotency();
+    
+    public Bulk getBulk() {
+        return bulk;
+    }
+    
+    public Cache getCache() {
+        return cache;
+    }
+    
+    public Etag getEtag() {
+        return etag;
+    }
+    
+    public Events getEvents() {
+        return events;
+    }
+    
+    public Sync getSync() {
+        return sync;
+    }
+    
+    public Reactive getReactive() {
+        return reactive;
+    }
+    
+    public QueryBudget getQueryBudget() {
+        return queryBudget;
+    }
+    
+    public WriteBehind getWriteBehind() {
+        return writeBehind;
+    }
+    
+    public Idempotency getIdempotency() {
+        return idempotency;
+    }
+    
+    /**
+     * Settings for bulk memo operations.
+     */
+    public static class Bulk {
+        
+        /**
+         * Maximum number of IDs sent to the database in one IN (...) statement.
+         */
+        private int chunkSize = 1000;
+        
+        /**
+         * Maximum number of memos a single bulk request may touch.
+         */
+        private int maxSize = 10000;
+        
+        public int getChunkSize() {
+            return chunkSize;
+        }
+        
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+        
+        public int getMaxSize() {
+            return maxSize;
+        }
+        
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+    
+    /**
+     * Settings for the memo-by-ID lookup cache.
+     */
+    public static class Cache {
+        
+        /**
+         * Maximum number of memos kept in the cache; 0 disables caching.
+         */
+        private long maximumSize = 10000;
+        
+        /**
+         * How long a cached memo is served before it is reloaded.
+         */
+        private Duration timeToLive = Duration.ofMinutes(10);
+        
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+        
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+        
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+        
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+    
+    /**
+     * Settings for ETags on responses derived from the whole memos table.
+     */
+    public static class Etag {
+        
+        /**
+         * Whether list, page and statistics responses carry an ETag from
+         * this instance's modification version and answer If-None-Match with
+         * 304. The version only observes changes committed through this
+         * instance, so enable it only where this instance is the sole writer
+         * of the memos table; otherwise clients may be told stale data is
+         * current. Single-memo ETags come from the stored version and are
+         * always sent.
+         */
+        private boolean tableWide = false;
+        
+        public boolean isTableWide() {
+            return tableWide;
+        }
+        
+        public void setTableWide(boolean tableWide) {
+            this.tableWide = tableWide;
+        }
+    }
+    
+    /**
+     * Settings for the Server-Sent Events change feed.
+     */
+    public static class Events {
+        
+        /**
+         * How long a subscription stays open before the client must reconnect.
+         */
+        private Duration timeout = Duration.ofMinutes(30);
+        
+        /**
+         * Maximum number of concurrent subscribers; further requests get 503.
+         */
+        private int maxSubscribers = 10000;
+        
+        /**
+         * Maximum number of undelivered events per subscriber; a subscriber
+         * that falls further behind is disconnected.
+         */
+        private int queueCapacity = 64;
+        
+        /**
+         * Threads writing queued events to subscribers. A stalled client
+         * occupies one of them until its write times out.
+         */
+        private int senderThreads = 4;
+        
+        public Duration getTimeout() {
+            return timeout;
+        }
+        
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+        
+        public int getMaxSubscribers() {
+            return maxSubscribers;
+        }
+        
+        public void setMaxSubscribers(int maxSubscribers) {
+            this.maxSubscribers = maxSubscribers;
+        }
+        
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+        
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+        
+        public int getSenderThreads() {
+            return senderThreads;
+        }
+        
+        public void setSenderThreads(int senderThreads) {
+            this.senderThreads = senderThreads;
+        }
+    }
+    
+    /**
+     * Settings for delta sync.
+     */
+    public static class Sync {
+        
+        /**
+         * How far behind the current time a sync cursor is held, so changes
+         * whose transactions commit late, or that were stamped by another
+         * instance with a slightly different clock, are not skipped.
+         */
+        private Duration overlap = Duration.ofSeconds(10);
+        
+        /**
+         * How long tombstones of deleted memos are kept. Clients whose cursor
+         * is older must resynchronize fully.
+         */
+        private Duration tombstoneRetention = Duration.ofDays(30);
+        
+        public Duration getOverlap() {
+            return overlap;
+        }
+        
+        public void setOverlap(Duration overlap) {
+            this.overlap = overlap;
+        }
+        
+        public Duration getTombstoneRetention() {
+            return tombstoneRetention;
+        }
+        
+        public void setTombstoneRetention(Duration tombstoneRetention) {
+            this.tombstoneRetention = tombstoneRetention;
+        }
+    }
+    
+    /**
+     * Settings for the reactive read API ("reactive" profile).
+     */
+    public static class Reactive {
+        
+        /**
+         * Number of Netty event-loop threads; 0 uses one per available processor.
+         */
+        private int eventLoopThreads = 0;
+        
+        public int getEventLoopThreads() {
+            return eventLoopThreads;
+        }
+        
+        public void setEventLoopThreads(int eventLoopThreads) {
+            this.eventLoopThreads = eventLoopThreads;
+        }
+    }
+    
+    /**
+     * Settings for per-request JDBC statement counting.
+     */
+    public static class QueryBudget {
+        
+        /**
+         * Statements a single request may issue before a warning is logged; 0 disables the warning.
+         */
+        private int maxStatements = 10;
+        
+        /**
+         * Whether responses carry X-Query-Count and X-Query-Time headers.
+         */
+        private boolean exposeHeaders = true;
+        
+        public int getMaxStatements() {
+            return maxStatements;
+        }
+        
+        public void setMaxStatements(int maxStatements) {
+            this.maxStatements = maxStatements;
+        }
+        
+        public boolean isExposeHeaders() {
+            return exposeHeaders;
+        }
+        
+        public void setExposeHeaders(boolean exposeHeaders) {
+            this.exposeHeaders = exposeHeaders;
+        }
+    }
+    
+    /**
+     * Settings for buffering single-memo priority changes in memory and
+     * writing them in batches.
+     */
+    public static class WriteBehind {
+        
+        /**
+         * Whether PUT /api/memos/{id}/priority is buffered and answered with 202 Accepted.
+         */
+        private boolean enabled = false;
+        
+        /**
+         * Longest time an accepted change waits in memory before it is written.
+         */
+        private Duration flushInterval = Duration.ofMillis(500);
+        
+        /**
+         * Number of buffered memos that triggers an early flush; also the
+         * maximum number of memos written in one transaction.
+         */
+        private int maxBatchSize = 500;
+        
+        /**
+         * Maximum number of memos with a pending change; further changes are
+         * written synchronously until the buffer drains.
+         */
+        private int capacity = 10000;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+        
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+        
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+        
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+        
+        public int getCapacity() {
+            return capacity;
+        }
+        
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+    }
+    
+    /**
+     * Settings for replaying responses to requests sent with an Idempotency-Key header.
+     */
+    public static class Idempotency {
+        
+        /**
+         * How long a response is replayed for retries with the same key.
+         */
+        private Duration timeToLive = Duration.ofHours(24);
+        
+        /**
+         * Maximum number of keys held in memory; the least recently used are evicted first.
+         */
+        private long maximumSize = 100000;
+        
+        /**
+         * Whether responses are also stored in the idempotency_keys table, so
+         * retries are recognized after a restart or by another instance.
+         */
+        private boolean persistent = false;
+        
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+        
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+        
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+        
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+        
+        public boolean isPersistent() {
+            return persistent;
+        }
+        
+        public void setPersistent(boolean persistent) {
+            this.persistent = persistent;
+        }
+    }
+}
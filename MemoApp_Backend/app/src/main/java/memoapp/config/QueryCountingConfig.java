@@ -0,0 +1,38 @@
+package memoapp.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Counts JDBC statements and their execution time per thread.
+ * 
+ * Wraps every DataSource in a datasource-proxy {@link ProxyDataSource} whose
+ * counts are read and reset per request by {@code memoapp.metrics.QueryCountFilter}.
+ * The proxy delegates {@code unwrap}, so pool metrics still find the Hikari pool.
+ */
+@Configuration
+public class QueryCountingConfig {
+
+    /**
+     * Static so the post-processor is registered before the DataSource is created.
+     */
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .countQuery()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
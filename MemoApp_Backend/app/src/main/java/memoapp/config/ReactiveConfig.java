@@ -0,0 +1,33 @@
+package memoapp.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Web server setup for the reactive profile.
+ * 
+ * Tomcat is on the classpath for the servlet stack and would otherwise be
+ * chosen for WebFlux as well; declaring the Netty factory explicitly runs
+ * the reactive API on a small, fixed set of event-loop threads.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public LoopResources memoLoopResources(MemoProperties properties) {
+        int configured = properties.getReactive().getEventLoopThreads();
+        int threads = configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+        return LoopResources.create("memo-http", threads, true);
+    }
+    
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(LoopResources memoLoopResources) {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        factory.addServerCustomizers(server -> server.runOn(memoLoopResources));
+        return factory;
+    }
+}
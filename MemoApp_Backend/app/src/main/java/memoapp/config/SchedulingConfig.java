@@ -0,0 +1,13 @@
+package memoapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's scheduled task support for periodic maintenance jobs,
+ * such as reconciling cached statistics against the database.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -2,17 +2,31 @@ package memoapp.controller;
 
 import jakarta.validation.Valid;
 import memoapp.dto.BulkPriorityUpdateRequest;
+import memoapp.dto.BulkPriorityUpdateResult;
+import memoapp.dto.MemoCacheStatistics;
+import memoapp.dto.MemoPage;
+import memoapp.dto.MemoSummary;
 import memoapp.dto.PriorityStatistics;
+import memoapp.dto.PriorityUpdateResult;
 import memoapp.dto.PriorityUpdateRequest;
 import memoapp.entity.Memo;
 import memoapp.entity.Priority;
+import memoapp.service.IdempotencyService;
+import memoapp.service.MemoChangeTracker;
 import memoapp.service.MemoService;
+import memoapp.service.PriorityWriteBuffer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Arrays;
-
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * REST controller for memo operations.
@@ -22,68 +36,164 @@ import java.util.List;
  * so exception handling is managed by Spring's global exception handler.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/memos")
 @CrossOrigin(origins = "*", maxAge = 3600)
 public class MemoController {
 
+    // Sent for an If-Match value that is not an ETag of the memo; no memo has version -1
+    private static final MemoChangeTracker.MemoETag UNMATCHABLE_ETAG = new MemoChangeTracker.MemoETag(-1, Priority.NONE);
+
     private final MemoService memoService;
+    private final MemoChangeTracker changeTracker;
+    private final PriorityWriteBuffer writeBuffer;
+    private final IdempotencyService idempotencyService;
 
     /**
      * Constructor injection following Dependency Inversion Principle.
      * Replaced @Autowired field injection with constructor injection for better testability.
+     * The write buffer only exists when {@code memo.write-behind.enabled=true}.
      */
-    public MemoController(MemoService memoService) {
+    public MemoController(MemoService memoService, MemoChangeTracker changeTracker,
+                          ObjectProvider<PriorityWriteBuffer> writeBuffer, IdempotencyService idempotencyService) {
         this.memoService = memoService;
+        this.changeTracker = changeTracker;
+        this.writeBuffer = writeBuffer.getIfAvailable();
+        this.idempotencyService = idempotencyService;
     }
 
+    /**
+     * Lists memos, optionally filtered by priority or sorted by priority.
+     * 
+     * Returns summaries with a content preview; the full content is served
+     * by {@link #getMemoById}.
+     * 
+     * With {@code memo.etag.table-wide} enabled, carries an ETag derived
+     * from the table's modification version, so a repeated request with
+     * If-None-Match is answered with 304 Not Modified before any memo is
+     * loaded.
+     */
     @GetMapping
-    public List<Memo> getAllMemos(
+    public ResponseEntity<List<MemoSummary>> getAllMemos(
             @RequestParam(required = false) String priority,
-            @RequestParam(required = false) String sort) {
-        
-        // Handle priority filtering
-        if (priority != null && !priority.isEmpty()) {
-            List<Priority> priorities = Arrays.stream(priority.split(","))
-                    .map(String::trim)
-                    .map(String::toUpperCase)
-                    .map(Priority::fromValue)
-                    .collect(java.util.stream.Collectors.toList());
-            return memoService.getMemosByPriority(priorities);
-        }
+            @RequestParam(required = false) String sort,
+            WebRequest webRequest) {
         
-        // Handle sorting
-        if (sort != null && !sort.isEmpty()) {
-            return memoService.getMemosSortedByPriority(sort);
-        }
+        List<Priority> priorities = priority != null && !priority.isEmpty() ? parsePriorities(priority) : null;
+        return tableConditional(webRequest, () -> {
+            // Handle priority filtering
+            if (priorities != null) {
+                return memoService.getMemosByPriority(priorities);
+            }
+            
+            // Handle sorting
+            if (sort != null && !sort.isEmpty()) {
+                return memoService.getMemosSortedByPriority(sort);
+            }
+            
+            return memoService.getAllMemos();
+        });
+    }
+
+    /**
+     * Keyset-paginated variant of the memo listing.
+     * 
+     * Accepts the same priority filter and sort parameters as {@link #getAllMemos},
+     * and returns a page plus an opaque cursor for the next page.
+     * 
+     * @param priority comma-separated priorities to filter by
+     * @param sort "priority_desc" (default) or "priority_asc"
+     * @param cursor cursor returned with the previous page
+     * @param size maximum number of memos per page
+     * @return page of memo summaries and the next cursor
+     */
+    @GetMapping("/page")
+    public ResponseEntity<MemoPage<MemoSummary>> getMemoPage(
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
         
-        return memoService.getAllMemos();
+        List<Priority> priorities = priority != null && !priority.isEmpty() ? parsePriorities(priority) : null;
+        return tableConditional(webRequest, () -> memoService.getMemoPage(priorities, sort, cursor, size));
+    }
+
+    /**
+     * Full-text search over memo titles and contents, ranked by relevance.
+     * 
+     * @param q search text; supports quoted phrases, "or" and "-word"
+     * @param cursor cursor returned with the previous page
+     * @param size maximum number of memos per page
+     * @return page of matching memo summaries and the next cursor
+     */
+    @GetMapping("/search")
+    public MemoPage<MemoSummary> searchMemos(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return memoService.searchMemos(q, cursor, size);
     }
 
     /**
      * Simplified method that relies on service exception handling.
      * The service throws MemoNotFoundException instead of returning null,
      * which will be handled by Spring's exception handling mechanism.
+     * 
+     * The ETag is derived from the memo's ID and version; the memo itself
+     * usually comes from the lookup cache, so a 304 costs no database query.
+     * Sending the ETag back as If-Match on an update makes the update
+     * conditional on the memo being unchanged.
      */
     @GetMapping("/{id}")
-    public Memo getMemoById(@PathVariable Long id) {
-        return memoService.getMemoById(id);
+    public ResponseEntity<Memo> getMemoById(@PathVariable Long id, WebRequest webRequest) {
+        Memo memo = memoService.getMemoById(id);
+        return conditional(webRequest, changeTracker.getETag(memo), () -> memo);
     }
 
     /**
      * Updated to use the new createMemo method name for better semantic clarity.
+     * 
+     * With an Idempotency-Key header, a retry with the same key and body
+     * returns the memo created by the first request instead of a duplicate.
      */
     @PostMapping
-    public Memo createMemo(@RequestBody Memo memo) {
-        return memoService.createMemo(memo);
+    public ResponseEntity<Memo> createMemo(
+            @RequestBody Memo memo,
+            @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute(idempotencyKey, "POST /api/memos", memo, Memo.class,
+                () -> memoService.createMemo(memo));
+    }
+
+    /**
+     * Creates many memos in one request, e.g. for imports.
+     * 
+     * @param memos memos to create
+     * @return created memos with generated IDs
+     */
+    @PostMapping("/bulk")
+    public List<Memo> createMemos(@RequestBody List<Memo> memos) {
+        return memoService.createMemos(memos);
     }
 
     /**
      * Simplified update method that relies on service validation and exception handling.
      * The service handles existence checking and throws appropriate exceptions.
+     * 
+     * With an If-Match header carrying the memo's ETag, the update is only
+     * applied if the memo was not changed since; otherwise the request fails
+     * with 412 Precondition Failed.
      */
     @PutMapping("/{id}")
-    public Memo updateMemo(@PathVariable Long id, @RequestBody Memo memo) {
-        return memoService.updateMemo(id, memo);
+    public ResponseEntity<Memo> updateMemo(
+            @PathVariable Long id,
+            @RequestBody Memo memo,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        MemoChangeTracker.MemoETag expected = requiredETag(id, ifMatch);
+        Memo updatedMemo = memoService.updateMemo(id, memo, expected != null ? expected.version() : null);
+        return ResponseEntity.ok()
+                .eTag(changeTracker.getETag(updatedMemo))
+                .body(updatedMemo);
     }
 
     /**
@@ -99,24 +209,54 @@ public class MemoController {
     /**
      * Updates the priority of a specific memo.
      * 
+     * With an If-Match header the change is applied by a single conditional
+     * UPDATE without reading the memo first, and fails with 412 Precondition
+     * Failed if the memo was modified since.
+     * 
+     * With {@code memo.write-behind.enabled=true}, unconditional changes are
+     * buffered and answered with 202 Accepted and no body: the change is
+     * written within {@code memo.write-behind.flush-interval} but is not yet
+     * durable or visible to reads, and a change to a missing memo is dropped
+     * rather than answered with 404. When the buffer is full the change is
+     * written synchronously as usual.
+     * 
      * @param id memo ID to update
      * @param request priority update request
-     * @return updated memo
+     * @param ifMatch optional ETag the memo must still have
+     * @return the memo's ID, new priority, update time and version, without its content
      */
     @PutMapping("/{id}/priority")
-    public Memo updateMemoPriority(@PathVariable Long id, @Valid @RequestBody PriorityUpdateRequest request) {
-        return memoService.updateMemoPriority(id, request.getPriority());
+    public ResponseEntity<PriorityUpdateResult> updateMemoPriority(
+            @PathVariable Long id,
+            @Valid @RequestBody PriorityUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        MemoChangeTracker.MemoETag expected = requiredETag(id, ifMatch);
+        if (expected == null && writeBuffer != null && writeBuffer.submit(id, request.getPriority())) {
+            return ResponseEntity.accepted().build();
+        }
+        
+        PriorityUpdateResult result = memoService.updateMemoPriority(id, request.getPriority(), expected);
+        return ResponseEntity.ok()
+                .eTag(changeTracker.getETag(result.getId(), result.getVersion(), result.getPriority()))
+                .body(result);
     }
     
     /**
      * Bulk update priority for multiple memos.
      * 
+     * With an Idempotency-Key header, a retry with the same key and body
+     * returns the first request's summary without updating the memos again.
+     * 
      * @param request bulk priority update request
-     * @return list of updated memos
+     * @param idempotencyKey optional key identifying retries of the same request
+     * @return summary of the updated memos
      */
     @PostMapping("/bulk/priority")
-    public List<Memo> bulkUpdatePriority(@Valid @RequestBody BulkPriorityUpdateRequest request) {
-        return memoService.bulkUpdatePriority(request);
+    public ResponseEntity<BulkPriorityUpdateResult> bulkUpdatePriority(
+            @Valid @RequestBody BulkPriorityUpdateRequest request,
+            @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute(idempotencyKey, "POST /api/memos/bulk/priority", request,
+                BulkPriorityUpdateResult.class, () -> memoService.bulkUpdatePriority(request));
     }
     
     /**
@@ -125,7 +265,74 @@ public class MemoController {
      * @return priority statistics
      */
     @GetMapping("/stats/priority")
-    public PriorityStatistics getPriorityStatistics() {
-        return memoService.getPriorityStatistics();
+    public ResponseEntity<PriorityStatistics> getPriorityStatistics(WebRequest webRequest) {
+        return tableConditional(webRequest, memoService::getPriorityStatistics);
+    }
+    
+    /**
+     * Get hit, miss and eviction counters of the memo lookup cache.
+     * 
+     * @return cache statistics
+     */
+    @GetMapping("/stats/cache")
+    public MemoCacheStatistics getCacheStatistics() {
+        return memoService.getCacheStatistics();
+    }
+    
+    /**
+     * Like {@link #conditional} with the table-wide ETag, for representations
+     * derived from the whole memos table. When table-wide ETags are disabled
+     * the body is always returned, without an ETag.
+     */
+    private <T> ResponseEntity<T> tableConditional(WebRequest webRequest, Supplier<T> body) {
+        if (!changeTracker.isTableETagEnabled()) {
+            return ResponseEntity.ok(body.get());
+        }
+        return conditional(webRequest, changeTracker.getETag(), body);
+    }
+    
+    /**
+     * Answers 304 Not Modified if the request's If-None-Match matches the
+     * ETag, without computing the body; otherwise returns the body with the
+     * ETag. "no-cache" lets clients store the response but makes them
+     * revalidate it on every use.
+     */
+    private <T> ResponseEntity<T> conditional(WebRequest webRequest, String etag, Supplier<T> body) {
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(body.get());
+    }
+
+    /**
+     * Extracts the version and priority an update is conditional on from an
+     * If-Match header.
+     * 
+     * Returns null without a header or for "*", which any existing memo
+     * matches. An ETag that is not a current ETag of this memo yields a
+     * version no memo has, so the update fails with 412.
+     */
+    private MemoChangeTracker.MemoETag requiredETag(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        return changeTracker.parseETag(ifMatch, id).orElse(UNMATCHABLE_ETAG);
+    }
+
+    /**
+     * Parses a comma-separated priority filter such as "HIGH,medium".
+     */
+    static List<Priority> parsePriorities(String priority) {
+        return Arrays.stream(priority.split(","))
+                .map(String::trim)
+                .map(String::toUpperCase)
+                .map(Priority::fromValue)
+                .collect(java.util.stream.Collectors.toList());
     }
 }
\ No newline at end of file
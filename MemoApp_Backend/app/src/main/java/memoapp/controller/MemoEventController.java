@@ -0,0 +1,58 @@
+package memoapp.controller;
+
+import memoapp.event.MemoEventBroadcaster;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller for the memo change feed.
+ * 
+ * Kept separate from {@link MemoController} because the response is a
+ * long-lived event stream rather than a single serialized object.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/memos")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class MemoEventController {
+
+    private final MemoEventBroadcaster eventBroadcaster;
+
+    public MemoEventController(MemoEventBroadcaster eventBroadcaster) {
+        this.eventBroadcaster = eventBroadcaster;
+    }
+
+    /**
+     * Streams committed memo changes as Server-Sent Events.
+     * 
+     * Each event is named after the change type (created, updated,
+     * priority_changed, deleted) and carries a JSON object with the same
+     * {@code type}, the {@code memoId}, {@code priority} and
+     * {@code updatedAt}, and {@code version}, the memo's optimistic-lock
+     * version after the change. The SSE id is the table modification
+     * version. A "connected" event with the current table version is sent
+     * first.
+     * 
+     * @return the event stream, or 503 when the subscriber limit is reached
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents() {
+        SseEmitter emitter = eventBroadcaster.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+}
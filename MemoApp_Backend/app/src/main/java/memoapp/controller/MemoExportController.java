@@ -0,0 +1,49 @@
+package memoapp.controller;
+
+import memoapp.service.MemoExportService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller for bulk memo export.
+ * 
+ * Kept separate from {@link MemoController} because the export writes
+ * directly to the response stream instead of returning serialized objects.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/memos")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class MemoExportController {
+
+    private final MemoExportService memoExportService;
+
+    public MemoExportController(MemoExportService memoExportService) {
+        this.memoExportService = memoExportService;
+    }
+
+    /**
+     * Streams every memo as newline-delimited JSON.
+     * 
+     * The body is written asynchronously, row by row, so the response starts
+     * immediately and heap usage does not grow with the table size.
+     * 
+     * @return streaming NDJSON response
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMemos() {
+        StreamingResponseBody body = memoExportService::exportAsNdjson;
+        
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"memos.ndjson\"")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,65 @@
+package memoapp.controller;
+
+import memoapp.dto.MemoSuggestion;
+import memoapp.dto.SearchIndexStatistics;
+import memoapp.entity.Priority;
+import memoapp.exception.MemoValidationException;
+import memoapp.search.InMemoryMemoIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Type-ahead suggestions served from the in-memory memo index.
+ * 
+ * Only registered when {@code memo.search.in-memory.enabled=true}; otherwise
+ * clients should fall back to {@code GET /api/memos/search}.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/memos/suggest")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@ConditionalOnProperty(prefix = "memo.search.in-memory", name = "enabled", havingValue = "true")
+public class MemoSuggestController {
+    
+    private static final int MAX_LIMIT = 50;
+    
+    private final InMemoryMemoIndex memoIndex;
+    
+    public MemoSuggestController(InMemoryMemoIndex memoIndex) {
+        this.memoIndex = memoIndex;
+    }
+    
+    /**
+     * Suggests memos whose title or content contains every word of the query
+     * as a prefix, newest first.
+     * 
+     * @param q partial text typed by the user
+     * @param priority optional comma-separated priority filter
+     * @param limit maximum number of suggestions (1-50)
+     * @return matching memo IDs, titles and priorities
+     */
+    @GetMapping
+    public List<MemoSuggestion> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false) String priority,
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new MemoValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        List<Priority> priorities = priority != null && !priority.isEmpty()
+                ? MemoController.parsePriorities(priority) : null;
+        return memoIndex.search(q, priorities, limit);
+    }
+    
+    /**
+     * Reports how many memos and terms the index holds and its estimated heap footprint.
+     */
+    @GetMapping("/stats")
+    public SearchIndexStatistics getIndexStatistics() {
+        return memoIndex.getStatistics();
+    }
+}
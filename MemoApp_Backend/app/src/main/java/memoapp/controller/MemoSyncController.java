@@ -0,0 +1,46 @@
+package memoapp.controller;
+
+import memoapp.dto.MemoChanges;
+import memoapp.service.MemoSyncService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * REST controller for incremental memo synchronization.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/memos")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class MemoSyncController {
+
+    private final MemoSyncService memoSyncService;
+
+    public MemoSyncController(MemoSyncService memoSyncService) {
+        this.memoSyncService = memoSyncService;
+    }
+
+    /**
+     * Returns memos created or updated and IDs of memos deleted since the
+     * given point.
+     * 
+     * @param since ISO date-time to start from, e.g. the updatedAt of the newest memo a client has
+     * @param cursor nextCursor from the previous response; preferred over since
+     * @param limit maximum number of memos and of deleted IDs per response
+     * @return changes and the cursor for the next request
+     */
+    @GetMapping("/changes")
+    public MemoChanges getChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return memoSyncService.getChanges(since, cursor, limit);
+    }
+}
@@ -0,0 +1,74 @@
+package memoapp.controller;
+
+import memoapp.dto.MemoSummary;
+import memoapp.dto.PriorityStatistics;
+import memoapp.entity.Memo;
+import memoapp.entity.Priority;
+import memoapp.service.ReactiveMemoService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive equivalent of the read endpoints of {@link MemoController}.
+ * 
+ * Active with the "reactive" profile, where the application runs on WebFlux
+ * and Netty instead of the servlet stack. Same paths, parameters and
+ * response bodies as the servlet controller; list endpoints additionally
+ * stream as newline-delimited JSON ({@code Accept: application/x-ndjson}),
+ * with backpressure from the client connection down to the database.
+ * 
+ * Write endpoints are not offered here; they stay on instances running the
+ * default profile.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/memos")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ReactiveMemoController {
+
+    private final ReactiveMemoService memoService;
+    
+    public ReactiveMemoController(ReactiveMemoService memoService) {
+        this.memoService = memoService;
+    }
+    
+    /**
+     * Lists memos, optionally filtered by priority or sorted by priority.
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<MemoSummary> getAllMemos(
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String sort) {
+        
+        if (priority != null && !priority.isEmpty()) {
+            List<Priority> priorities = MemoController.parsePriorities(priority);
+            return memoService.getMemosByPriority(priorities);
+        }
+        
+        if (sort != null && !sort.isEmpty()) {
+            return memoService.getMemosSortedByPriority(sort);
+        }
+        
+        return memoService.getAllMemos();
+    }
+    
+    @GetMapping("/{id}")
+    public Mono<Memo> getMemoById(@PathVariable Long id) {
+        return memoService.getMemoById(id);
+    }
+    
+    @GetMapping("/stats/priority")
+    public Mono<PriorityStatistics> getPriorityStatistics() {
+        return memoService.getPriorityStatistics();
+    }
+}
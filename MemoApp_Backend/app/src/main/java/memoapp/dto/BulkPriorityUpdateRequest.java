@@ -2,7 +2,6 @@ package memoapp.dto;
 
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Size;
 import memoapp.entity.Priority;
 
 import java.util.List;
@@ -10,7 +9,6 @@ import java.util.List;
 public class BulkPriorityUpdateRequest {
     
     @NotEmpty(message = "Memo IDs cannot be empty")
-    @Size(max = 100, message = "Cannot update more than 100 memos at once")
     private List<Long> memoIds;
     
     @NotNull(message = "Priority is required")
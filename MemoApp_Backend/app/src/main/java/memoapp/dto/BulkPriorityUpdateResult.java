@@ -0,0 +1,60 @@
+package memoapp.dto;
+
+import memoapp.entity.Priority;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outcome of a bulk priority update.
+ * 
+ * Describes the affected rows instead of returning reloaded memo entities.
+ */
+public class BulkPriorityUpdateResult {
+    
+    private List<Long> memoIds;
+    private Priority priority;
+    private int updatedCount;
+    private LocalDateTime updatedAt;
+    
+    public BulkPriorityUpdateResult() {}
+    
+    public BulkPriorityUpdateResult(List<Long> memoIds, Priority priority, int updatedCount, LocalDateTime updatedAt) {
+        this.memoIds = memoIds;
+        this.priority = priority;
+        this.updatedCount = updatedCount;
+        this.updatedAt = updatedAt;
+    }
+    
+    public List<Long> getMemoIds() {
+        return memoIds;
+    }
+    
+    public void setMemoIds(List<Long> memoIds) {
+        this.memoIds = memoIds;
+    }
+    
+    public Priority getPriority() {
+        return priority;
+    }
+    
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+    
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+    
+    public void setUpdatedCount(int updatedCount) {
+        this.updatedCount = updatedCount;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,68 @@
+package memoapp.dto;
+
+import memoapp.entity.Priority;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compact description of a committed memo change, pushed to event stream
+ * subscribers. Clients fetch the memo itself only if they need its content.
+ */
+public class MemoChangeNotification {
+    
+    private String type;
+    private Long memoId;
+    private Priority priority;
+    private LocalDateTime updatedAt;
+    private long version;
+    
+    public MemoChangeNotification() {}
+    
+    public MemoChangeNotification(String type, Long memoId, Priority priority, LocalDateTime updatedAt, long version) {
+        this.type = type;
+        this.memoId = memoId;
+        this.priority = priority;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public Long getMemoId() {
+        return memoId;
+    }
+    
+    public void setMemoId(Long memoId) {
+        this.memoId = memoId;
+    }
+    
+    public Priority getPriority() {
+        return priority;
+    }
+    
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
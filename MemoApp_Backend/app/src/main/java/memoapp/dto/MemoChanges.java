@@ -0,0 +1,75 @@
+package memoapp.dto;
+
+import memoapp.entity.Memo;
+
+import java.util.List;
+
+/**
+ * Result of a delta sync request: memos created or updated and IDs of memos
+ * deleted since the client's cursor.
+ * 
+ * Clients pass {@code nextCursor} to the next request. While {@code hasMore}
+ * is true they should request again immediately. Changes from the last few
+ * seconds may be delivered more than once, so clients apply them
+ * idempotently, memos first and deletions last. If {@code fullResyncRequired} is true, deletions since the
+ * cursor are no longer known and the client must reload everything.
+ */
+public class MemoChanges {
+    
+    private List<Memo> memos;
+    private List<Long> deletedIds;
+    private String nextCursor;
+    private boolean hasMore;
+    private boolean fullResyncRequired;
+    
+    public MemoChanges() {}
+    
+    public MemoChanges(List<Memo> memos, List<Long> deletedIds, String nextCursor,
+                       boolean hasMore, boolean fullResyncRequired) {
+        this.memos = memos;
+        this.deletedIds = deletedIds;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+        this.fullResyncRequired = fullResyncRequired;
+    }
+    
+    public List<Memo> getMemos() {
+        return memos;
+    }
+    
+    public void setMemos(List<Memo> memos) {
+        this.memos = memos;
+    }
+    
+    public List<Long> getDeletedIds() {
+        return deletedIds;
+    }
+    
+    public void setDeletedIds(List<Long> deletedIds) {
+        this.deletedIds = deletedIds;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasMore() {
+        return hasMore;
+    }
+    
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+    
+    public boolean isFullResyncRequired() {
+        return fullResyncRequired;
+    }
+    
+    public void setFullResyncRequired(boolean fullResyncRequired) {
+        this.fullResyncRequired = fullResyncRequired;
+    }
+}
@@ -0,0 +1,42 @@
+package memoapp.dto;
+
+import java.util.List;
+
+/**
+ * A single keyset-paginated page of results.
+ * 
+ * The {@code nextCursor} is opaque to clients and must be passed back
+ * unchanged to fetch the following page; it is null on the last page.
+ */
+public class MemoPage<T> {
+    
+    private List<T> items;
+    private String nextCursor;
+    
+    public MemoPage() {}
+    
+    public MemoPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+    
+    public List<T> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,15 @@
+package memoapp.dto;
+
+import memoapp.entity.Priority;
+
+/**
+ * Projection of a memo's ID, current priority and version, without its content.
+ */
+public interface MemoPriorityView {
+    
+    Long getId();
+    
+    Priority getPriority();
+    
+    long getVersion();
+}
@@ -0,0 +1,11 @@
+package memoapp.dto;
+
+/**
+ * Projection of a full-text search match: the memo ID and its relevance rank.
+ */
+public interface MemoSearchHit {
+    
+    Long getId();
+    
+    Float getRank();
+}
@@ -0,0 +1,46 @@
+package memoapp.dto;
+
+import memoapp.entity.Priority;
+
+/**
+ * Lightweight type-ahead result: enough to render a suggestion without
+ * loading the full memo.
+ */
+public class MemoSuggestion {
+    
+    private Long id;
+    private String title;
+    private Priority priority;
+    
+    public MemoSuggestion() {}
+    
+    public MemoSuggestion(Long id, String title, Priority priority) {
+        this.id = id;
+        this.title = title;
+        this.priority = priority;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public Priority getPriority() {
+        return priority;
+    }
+    
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+}
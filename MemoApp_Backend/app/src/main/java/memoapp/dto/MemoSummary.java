@@ -0,0 +1,111 @@
+package memoapp.dto;
+
+import memoapp.entity.Memo;
+import memoapp.entity.Priority;
+
+import java.time.LocalDateTime;
+
+/**
+ * Memo as shown in lists: everything but the full content, which is
+ * replaced by a short preview. The full memo is served by {@code GET /api/memos/{id}}.
+ * 
+ * Built directly by JPQL constructor expressions, so list queries neither
+ * read the whole content column nor create managed entities that would be
+ * dirty-checked at flush.
+ */
+public class MemoSummary {
+    
+    /**
+     * Maximum number of content characters in a preview.
+     */
+    public static final int PREVIEW_LENGTH = 200;
+    
+    private Long id;
+    private String title;
+    private String contentPreview;
+    private boolean contentTruncated;
+    private Priority priority;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    public MemoSummary() {}
+    
+    /**
+     * Creates a summary from a content prefix.
+     * 
+     * Queries select {@code PREVIEW_LENGTH + 1} characters of the content:
+     * the extra character tells whether the preview was cut off without
+     * reading the rest of the column.
+     */
+    public MemoSummary(Long id, String title, String contentPrefix, Priority priority,
+                       LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.contentTruncated = contentPrefix != null && contentPrefix.length() > PREVIEW_LENGTH;
+        this.contentPreview = contentTruncated ? contentPrefix.substring(0, PREVIEW_LENGTH) : contentPrefix;
+        this.priority = priority;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+    
+    public static MemoSummary of(Memo memo) {
+        return new MemoSummary(memo.getId(), memo.getTitle(), memo.getContent(), memo.getPriority(),
+                memo.getCreatedAt(), memo.getUpdatedAt());
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public String getContentPreview() {
+        return contentPreview;
+    }
+    
+    public void setContentPreview(String contentPreview) {
+        this.contentPreview = contentPreview;
+    }
+    
+    public boolean isContentTruncated() {
+        return contentTruncated;
+    }
+    
+    public void setContentTruncated(boolean contentTruncated) {
+        this.contentTruncated = contentTruncated;
+    }
+    
+    public Priority getPriority() {
+        return priority;
+    }
+    
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
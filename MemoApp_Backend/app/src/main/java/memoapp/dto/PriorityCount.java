@@ -0,0 +1,13 @@
+package memoapp.dto;
+
+import memoapp.entity.Priority;
+
+/**
+ * Projection of a grouped memo count for a single priority level.
+ */
+public interface PriorityCount {
+    
+    Priority getPriority();
+    
+    long getMemoCount();
+}
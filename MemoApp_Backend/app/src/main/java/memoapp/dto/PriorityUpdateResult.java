@@ -0,0 +1,60 @@
+package memoapp.dto;
+
+import memoapp.entity.Priority;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of a single memo's priority update.
+ * 
+ * Carries only the changed fields, so answering the request does not
+ * require loading the memo's content.
+ */
+public class PriorityUpdateResult {
+    
+    private Long id;
+    private Priority priority;
+    private LocalDateTime updatedAt;
+    private long version;
+    
+    public PriorityUpdateResult() {}
+    
+    public PriorityUpdateResult(Long id, Priority priority, LocalDateTime updatedAt, long version) {
+        this.id = id;
+        this.priority = priority;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Priority getPriority() {
+        return priority;
+    }
+    
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
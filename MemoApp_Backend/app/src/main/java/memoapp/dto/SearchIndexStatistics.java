@@ -0,0 +1,54 @@
+package memoapp.dto;
+
+/**
+ * Size of the in-memory search index. The byte figure is an estimate
+ * computed from the index's own arrays and strings, not a heap measurement.
+ */
+public class SearchIndexStatistics {
+    
+    private int documentCount;
+    private int termCount;
+    private long postingCount;
+    private long estimatedBytes;
+    
+    public SearchIndexStatistics() {}
+    
+    public SearchIndexStatistics(int documentCount, int termCount, long postingCount, long estimatedBytes) {
+        this.documentCount = documentCount;
+        this.termCount = termCount;
+        this.postingCount = postingCount;
+        this.estimatedBytes = estimatedBytes;
+    }
+    
+    public int getDocumentCount() {
+        return documentCount;
+    }
+    
+    public void setDocumentCount(int documentCount) {
+        this.documentCount = documentCount;
+    }
+    
+    public int getTermCount() {
+        return termCount;
+    }
+    
+    public void setTermCount(int termCount) {
+        this.termCount = termCount;
+    }
+    
+    public long getPostingCount() {
+        return postingCount;
+    }
+    
+    public void setPostingCount(long postingCount) {
+        this.postingCount = postingCount;
+    }
+    
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+    
+    public void setEstimatedBytes(long estimatedBytes) {
+        this.estimatedBytes = estimatedBytes;
+    }
+}
@@ -1,21 +1,43 @@
 package memoapp.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "memos")
+@Table(name = "memos", indexes = {
+    // Serves priority_desc listings (read backwards) and rank filters
+    @Index(name = "idx_memos_rank_created_at_id", columnList = "priority_rank, created_at, id"),
+    // Serves priority_asc listings, which keep newest-first within a rank
+    @Index(name = "idx_memos_rank_created_at_id_desc", columnList = "priority_rank, created_at DESC, id DESC"),
+    // Serves delta sync, which pages through changes in (updated_at, id) order
+    @Index(name = "idx_memos_updated_at_id", columnList = "updated_at, id")
+})
 public class Memo {
     
+    /**
+     * Sequence-based ID with a pooled allocation of 50, so Hibernate can
+     * assign IDs without a round-trip per insert and batch the INSERTs.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "memos_seq")
+    @SequenceGenerator(name = "memos_seq", sequenceName = "memos_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Title is required")
     @Column(nullable = false)
     private String title;
     
+    /**
+     * Loaded on first access only (requires the Hibernate bytecode
+     * enhancement configured in build.gradle), so entity loads for priority
+     * changes and other metadata operations never read the content column.
+     * Queries that need the content select it explicitly, see
+     * {@code MemoRepository.SELECT_WITH_CONTENT}.
+     */
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String content;
     
@@ -29,15 +51,38 @@ public class Memo {
     @Column(nullable = false)
     private Priority priority = Priority.NONE;
     
+    /**
+     * Numeric copy of {@link Priority#getOrder()}, kept in sync with
+     * {@link #priority}. Sorting and filtering on this column lets the
+     * database use the composite indexes instead of sorting a CASE expression.
+     */
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(name = "priority_rank", nullable = false)
+    private int priorityRank = Priority.NONE.getOrder();
+    
+    /**
+     * Optimistic lock version, incremented by every update: entity updates
+     * through {@link Version}, set-based updates explicitly in their
+     * statements. Clients see it through the memo's ETag and send it back in
+     * {@code If-Match} to make an update conditional.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        priorityRank = priority.getOrder();
     }
     
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        priorityRank = priority.getOrder();
     }
     
     public Memo() {}
@@ -51,7 +96,20 @@ public class Memo {
     public Memo(String title, String content, Priority priority) {
         this.title = title;
         this.content = content;
-        this.priority = priority != null ? priority : Priority.NONE;
+        setPriority(priority);
+    }
+    
+    /**
+     * Creates a fully populated, unmanaged memo. Used by constructor
+     * expressions that read memos together with their content.
+     */
+    public Memo(Long id, String title, String content, Priority priority,
+                LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
+        this(title, content, priority);
+        this.id = id;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
     }
     
     public Long getId() {
@@ -100,5 +158,18 @@ public class Memo {
     
     public void setPriority(Priority priority) {
         this.priority = priority != null ? priority : Priority.NONE;
+        this.priorityRank = this.priority.getOrder();
+    }
+    
+    public int getPriorityRank() {
+        return priorityRank;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(long version) {
+        this.version = version;
     }
 }
\ No newline at end of file
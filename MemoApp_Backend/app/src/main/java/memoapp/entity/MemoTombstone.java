@@ -0,0 +1,70 @@
+package memoapp.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marker left behind when a memo is deleted, so clients syncing incrementally
+ * learn about the deletion. Tombstones are purged after a retention period.
+ * 
+ * The ID is the deleted memo's ID rather than a generated one. Implementing
+ * {@link Persistable} lets {@code save} insert a new tombstone directly
+ * instead of merging it, which would first select the row by ID.
+ */
+@Entity
+@Table(name = "memo_tombstones", indexes = {
+    @Index(name = "idx_memo_tombstones_deleted_at_memo_id", columnList = "deleted_at, memo_id")
+})
+public class MemoTombstone implements Persistable<Long> {
+    
+    @Id
+    @Column(name = "memo_id")
+    private Long memoId;
+    
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+    
+    @Transient
+    private boolean isNew = true;
+    
+    public MemoTombstone() {}
+    
+    public MemoTombstone(Long memoId, LocalDateTime deletedAt) {
+        this.memoId = memoId;
+        this.deletedAt = deletedAt;
+    }
+    
+    public Long getMemoId() {
+        return memoId;
+    }
+    
+    public void setMemoId(Long memoId) {
+        this.memoId = memoId;
+    }
+    
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+    
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+    
+    @Override
+    public Long getId() {
+        return memoId;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+    
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+}
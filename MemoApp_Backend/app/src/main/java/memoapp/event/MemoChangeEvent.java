@@ -0,0 +1,92 @@
+package memoapp.event;
+
+import memoapp.entity.Memo;
+import memoapp.entity.Priority;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application event describing a change to a single memo.
+ * 
+ * Published by {@code MemoService} inside the writing transaction; listeners
+ * that mirror memo state elsewhere should use
+ * {@code @TransactionalEventListener} so they only see committed changes.
+ * 
+ * The event carries a copy of the memo's fields rather than the entity, so
+ * listeners never touch a managed object. For {@link Type#PRIORITY_CHANGED}
+ * and {@link Type#DELETED} only the ID, priority and version are populated.
+ * The version is the memo's optimistic lock version after the change, or
+ * the last version it had before a deletion.
+ */
+public class MemoChangeEvent {
+    
+    public enum Type {
+        CREATED,
+        UPDATED,
+        PRIORITY_CHANGED,
+        DELETED
+    }
+    
+    private final Type type;
+    private final Long memoId;
+    private final String title;
+    private final String content;
+    private final Priority priority;
+    private final LocalDateTime updatedAt;
+    private final long version;
+    
+    private MemoChangeEvent(Type type, Long memoId, String title, String content, Priority priority,
+                            LocalDateTime updatedAt, long version) {
+        this.type = type;
+        this.memoId = memoId;
+        this.title = title;
+        this.content = content;
+        this.priority = priority;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+    
+    public static MemoChangeEvent created(Memo memo) {
+        return new MemoChangeEvent(Type.CREATED, memo.getId(), memo.getTitle(), memo.getContent(), memo.getPriority(), memo.getUpdatedAt(), memo.getVersion());
+    }
+    
+    public static MemoChangeEvent updated(Memo memo) {
+        return new MemoChangeEvent(Type.UPDATED, memo.getId(), memo.getTitle(), memo.getContent(), memo.getPriority(), memo.getUpdatedAt(), memo.getVersion());
+    }
+    
+    public static MemoChangeEvent priorityChanged(Long memoId, Priority priority, LocalDateTime updatedAt, long version) {
+        return new MemoChangeEvent(Type.PRIORITY_CHANGED, memoId, null, null, priority, updatedAt, version);
+    }
+    
+    public static MemoChangeEvent deleted(Memo memo) {
+        return new MemoChangeEvent(Type.DELETED, memo.getId(), null, null, memo.getPriority(), null, memo.getVersion());
+    }
+    
+    public Type getType() {
+        return type;
+    }
+    
+    public Long getMemoId() {
+        return memoId;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public String getContent() {
+        return content;
+    }
+    
+    public Priority getPriority() {
+        return priority;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+}
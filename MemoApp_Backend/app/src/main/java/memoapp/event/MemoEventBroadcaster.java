@@ -0,0 +1,246 @@
+package memoapp.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import memoapp.config.MemoProperties;
+import memoapp.dto.MemoChangeNotification;
+import memoapp.service.MemoChangeTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans committed memo changes out to Server-Sent Events subscribers.
+ * 
+ * Subscriptions are asynchronous servlet requests, so an open stream holds
+ * no request thread. Each change is serialized once and offered to a
+ * bounded queue per subscriber without blocking; a small pool of sender
+ * threads drains the queues, a few events per turn. A stalled client
+ * therefore only delays its own queue, and a subscriber whose queue is full
+ * has fallen too far behind and is disconnected. Subscribers whose
+ * connection fails are dropped too; clients are expected to reconnect
+ * (EventSource does so automatically) and resynchronize.
+ * 
+ * Every event carries the memo's ID and its version after the change. The
+ * SSE id is the table modification version of {@link MemoChangeTracker},
+ * which is bumped first, so it is at least the version produced by the
+ * change; under concurrent commits it may already include later changes.
+ */
+@Component
+public class MemoEventBroadcaster {
+    
+    private static final Logger log = LoggerFactory.getLogger(MemoEventBroadcaster.class);
+    
+    /**
+     * Events sent to one subscriber before its sender thread moves on to
+     * other subscribers.
+     */
+    private static final int SEND_BATCH = 16;
+    
+    private final MemoChangeTracker changeTracker;
+    private final ObjectMapper objectMapper;
+    private final MemoProperties.Events settings;
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+    
+    @Autowired
+    public MemoEventBroadcaster(MemoChangeTracker changeTracker, ObjectMapper objectMapper, MemoProperties properties) {
+        this(changeTracker, objectMapper, properties, newSenderPool(properties.getEvents().getSenderThreads()));
+    }
+    
+    MemoEventBroadcaster(MemoChangeTracker changeTracker, ObjectMapper objectMapper, MemoProperties properties,
+                         ExecutorService senders) {
+        this.changeTracker = changeTracker;
+        this.objectMapper = objectMapper;
+        this.settings = properties.getEvents();
+        this.senders = senders;
+    }
+    
+    /**
+     * Registers a new subscriber.
+     * 
+     * @return the emitter to return from the controller, or null if the
+     *         subscriber limit has been reached
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= settings.getMaxSubscribers()) {
+            return null;
+        }
+        
+        SseEmitter emitter = new SseEmitter(settings.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, settings.getQueueCapacity());
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(error -> subscribers.remove(emitter));
+        
+        // Tell the client which version its stream starts at; queued first,
+        // so it precedes any change sent on this stream
+        long version = changeTracker.getVersion();
+        subscriber.offer(SseEmitter.event().name("connected").id(String.valueOf(version)).data(version).build());
+        subscribers.put(emitter, subscriber);
+        schedule(subscriber);
+        return emitter;
+    }
+    
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+    
+    /**
+     * Queues a committed change for delivery to all subscribers.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onMemoChanged(MemoChangeEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        
+        String type = event.getType().name().toLowerCase(Locale.ROOT);
+        MemoChangeNotification notification = new MemoChangeNotification(
+                type, event.getMemoId(), event.getPriority(), event.getUpdatedAt(), event.getVersion());
+        
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(notification);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize memo change notification for memo {}", event.getMemoId(), e);
+            return;
+        }
+        
+        String id = String.valueOf(changeTracker.getVersion());
+        broadcast(SseEmitter.event().id(id).name(type).data(json, MediaType.APPLICATION_JSON).build());
+    }
+    
+    /**
+     * Sends a comment line to every subscriber so idle connections are not
+     * closed by proxies and dead ones are detected.
+     */
+    @Scheduled(fixedDelayString = "${memo.events.heartbeat-interval:PT30S}",
+               initialDelayString = "${memo.events.heartbeat-interval:PT30S}")
+    public void sendHeartbeat() {
+        if (!subscribers.isEmpty()) {
+            broadcast(SseEmitter.event().comment("heartbeat").build());
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        subscribers.keySet().forEach(SseEmitter::complete);
+        subscribers.clear();
+    }
+    
+    /**
+     * Offers an event to every subscriber's queue. Never blocks on a client:
+     * a subscriber whose queue is full is closed by its sender instead.
+     */
+    private void broadcast(Set<DataWithMediaType> event) {
+        for (Subscriber subscriber : subscribers.values()) {
+            if (!subscriber.offer(event)) {
+                subscribers.remove(subscriber.emitter);
+                subscriber.lagging = true;
+            }
+            schedule(subscriber);
+        }
+    }
+    
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> send(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+            }
+        }
+    }
+    
+    /**
+     * Sends up to one batch of queued events to a subscriber, then yields
+     * the sender thread and reschedules itself if more are waiting.
+     * 
+     * Runs on a sender thread only, so a write or completion that blocks on
+     * a stalled client never holds up the committing request or other
+     * subscribers' deliveries.
+     */
+    private void send(Subscriber subscriber) {
+        SseEmitter emitter = subscriber.emitter;
+        if (subscriber.lagging) {
+            log.debug("Disconnecting memo event subscriber that fell {} events behind", settings.getQueueCapacity());
+            subscriber.queue.clear();
+            emitter.complete();
+            return;
+        }
+        
+        try {
+            for (int sent = 0; sent < SEND_BATCH; sent++) {
+                Set<DataWithMediaType> event = subscriber.queue.poll();
+                if (event == null) {
+                    break;
+                }
+                emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(emitter);
+            subscriber.queue.clear();
+            emitter.completeWithError(e);
+            return;
+        }
+        
+        subscriber.scheduled.set(false);
+        if (!subscriber.queue.isEmpty() || subscriber.lagging) {
+            schedule(subscriber);
+        }
+    }
+    
+    private static ExecutorService newSenderPool(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "memo-events-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * A subscriber's emitter with its queue of pending events.
+     */
+    private static final class Subscriber {
+        
+        final SseEmitter emitter;
+        final BlockingQueue<Set<DataWithMediaType>> queue;
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        volatile boolean lagging;
+        
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+        
+        boolean offer(Set<DataWithMediaType> event) {
+            return queue.offer(event);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package memoapp.exception;
 
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -22,6 +24,7 @@ import java.util.Map;
  * Returns consistent error response format for better API usability.
  */
 @ControllerAdvice
+@Profile("!reactive")
 public class GlobalExceptionHandler {
 
     /**
@@ -79,6 +82,80 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles MemoVersionConflictException and returns HTTP 412 Precondition Failed.
+     * 
+     * @param ex the exception that was thrown
+     * @param request the web request during which the exception was thrown
+     * @return ResponseEntity with error details and HTTP 412 status
+     */
+    @ExceptionHandler(MemoVersionConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleMemoVersionConflictException(
+            MemoVersionConflictException ex, WebRequest request) {
+        
+        Map<String, Object> body = createErrorBody(
+            HttpStatus.PRECONDITION_FAILED.value(),
+            "Precondition Failed",
+            ex.getMessage(),
+            request.getDescription(false)
+        );
+        body.put("memoId", ex.getMemoId());
+        
+        return new ResponseEntity<>(body, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Handles IdempotencyKeyConflictException and returns HTTP 409 Conflict
+     * while the first request is in progress, or HTTP 422 Unprocessable Entity
+     * if the key was used for a different request.
+     * 
+     * @param ex the exception that was thrown
+     * @param request the web request during which the exception was thrown
+     * @return ResponseEntity with error details and HTTP 409 or 422 status
+     */
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyKeyConflictException(
+            IdempotencyKeyConflictException ex, WebRequest request) {
+        
+        HttpStatus status = ex.getReason() == IdempotencyKeyConflictException.Reason.IN_PROGRESS
+                ? HttpStatus.CONFLICT
+                : HttpStatus.UNPROCESSABLE_ENTITY;
+        Map<String, Object> body = createErrorBody(
+            status.value(),
+            status.getReasonPhrase(),
+            ex.getMessage(),
+            request.getDescription(false)
+        );
+        body.put("idempotencyKey", ex.getIdempotencyKey());
+        
+        return new ResponseEntity<>(body, status);
+    }
+
+    /**
+     * Handles optimistic locking failures of unconditional updates and
+     * returns HTTP 409 Conflict.
+     * 
+     * Raised when another request changed the memo between loading and
+     * writing it; retrying the request applies it to the current version.
+     * 
+     * @param ex the exception that was thrown
+     * @param request the web request during which the exception was thrown
+     * @return ResponseEntity with error details and HTTP 409 status
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, WebRequest request) {
+        
+        Map<String, Object> body = createErrorBody(
+            HttpStatus.CONFLICT.value(),
+            "Conflict",
+            "The memo was modified by another request. Please retry.",
+            request.getDescription(false)
+        );
+        
+        return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+    }
+
     /**
      * Handles general runtime exceptions and returns HTTP 500 Internal Server Error.
      * 
@@ -130,8 +207,9 @@ public class GlobalExceptionHandler {
     /**
      * Creates a consistent error response body structure.
      * 
-     * Private helper method following the Single Responsibility Principle
-     * and DRY principle by centralizing error response format.
+     * Helper method following the Single Responsibility Principle and DRY
+     * principle by centralizing error response format; also used by
+     * {@link ReactiveExceptionHandler} so both stacks answer alike.
      * 
      * @param status HTTP status code
      * @param error error type/category
@@ -139,7 +217,7 @@ public class GlobalExceptionHandler {
      * @param path request path where the error occurred
      * @return Map containing structured error information
      */
-    private Map<String, Object> createErrorBody(int status, String error, String message, String path) {
+    static Map<String, Object> createErrorBody(int status, String error, String message, String path) {
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("timestamp", LocalDateTime.now());
         body.put("status", status);
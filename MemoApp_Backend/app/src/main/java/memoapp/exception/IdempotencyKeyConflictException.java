@@ -0,0 +1,56 @@
+package memoapp.exception;
+
+/**
+ * Exception thrown when a request reuses an {@code Idempotency-Key} in a
+ * way that cannot be answered with the stored response.
+ * 
+ * Either the first request with the key is still being processed, which is
+ * answered with HTTP 409 Conflict so the client retries later, or the key
+ * was first used for a different request body, which is answered with
+ * HTTP 422 Unprocessable Entity because the client reused a key by mistake.
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+    
+    /**
+     * Why the stored response cannot be replayed.
+     */
+    public enum Reason {
+        IN_PROGRESS,
+        PAYLOAD_MISMATCH
+    }
+    
+    private final String idempotencyKey;
+    private final Reason reason;
+    
+    /**
+     * Constructs a new IdempotencyKeyConflictException for the given key.
+     * 
+     * @param idempotencyKey the key sent by the client
+     * @param reason why the stored response cannot be replayed
+     */
+    public IdempotencyKeyConflictException(String idempotencyKey, Reason reason) {
+        super(reason == Reason.IN_PROGRESS
+                ? "A request with this Idempotency-Key is still being processed"
+                : "This Idempotency-Key was already used for a different request");
+        this.idempotencyKey = idempotencyKey;
+        this.reason = reason;
+    }
+    
+    /**
+     * Gets the key sent by the client.
+     * 
+     * @return the idempotency key
+     */
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+    
+    /**
+     * Gets why the stored response cannot be replayed.
+     * 
+     * @return the conflict reason
+     */
+    public Reason getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,45 @@
+package memoapp.exception;
+
+/**
+ * Exception thrown when a conditional update names a memo version that is
+ * no longer current, i.e. the memo was changed since the client read it.
+ * 
+ * Raised for updates sent with an {@code If-Match} header and answered with
+ * HTTP 412 Precondition Failed, so the client can reload the memo and
+ * reapply its change instead of silently overwriting someone else's edit.
+ */
+public class MemoVersionConflictException extends RuntimeException {
+    
+    private final Long memoId;
+    private final Long expectedVersion;
+    
+    /**
+     * Constructs a new MemoVersionConflictException for the given memo.
+     * 
+     * @param memoId the ID of the memo that was changed concurrently
+     * @param expectedVersion the version the client expected the memo to have
+     */
+    public MemoVersionConflictException(Long memoId, Long expectedVersion) {
+        super(String.format("Memo with id %d was modified by another request", memoId));
+        this.memoId = memoId;
+        this.expectedVersion = expectedVersion;
+    }
+    
+    /**
+     * Gets the ID of the memo that was changed concurrently.
+     * 
+     * @return the memo ID
+     */
+    public Long getMemoId() {
+        return memoId;
+    }
+    
+    /**
+     * Gets the version the client expected the memo to have.
+     * 
+     * @return the expected version
+     */
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
@@ -0,0 +1,73 @@
+package memoapp.exception;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.util.Map;
+
+/**
+ * Exception handler for the reactive profile.
+ * 
+ * Counterpart of {@link GlobalExceptionHandler}, which depends on the servlet
+ * {@code WebRequest}; produces the same error response format so clients
+ * cannot tell which stack served them.
+ */
+@ControllerAdvice
+@Profile("reactive")
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(MemoNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleMemoNotFoundException(
+            MemoNotFoundException ex, ServerHttpRequest request) {
+        
+        Map<String, Object> body = GlobalExceptionHandler.createErrorBody(
+            HttpStatus.NOT_FOUND.value(),
+            "Memo Not Found",
+            ex.getMessage(),
+            request.getPath().value()
+        );
+        if (ex.getMemoId() != null) {
+            body.put("memoId", ex.getMemoId());
+        }
+        
+        return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
+    }
+    
+    @ExceptionHandler(MemoValidationException.class)
+    public ResponseEntity<Map<String, Object>> handleMemoValidationException(
+            MemoValidationException ex, ServerHttpRequest request) {
+        
+        Map<String, Object> body = GlobalExceptionHandler.createErrorBody(
+            HttpStatus.BAD_REQUEST.value(),
+            "Validation Error",
+            ex.getMessage(),
+            request.getPath().value()
+        );
+        if (ex.getFieldName() != null) {
+            body.put("field", ex.getFieldName());
+        }
+        if (ex.getRejectedValue() != null) {
+            body.put("rejectedValue", ex.getRejectedValue());
+        }
+        
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+    
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Map<String, Object>> handleGenericException(
+            Exception ex, ServerHttpRequest request) {
+        
+        Map<String, Object> body = GlobalExceptionHandler.createErrorBody(
+            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+            "Internal Server Error",
+            "An unexpected error occurred. Please try again later.",
+            request.getPath().value()
+        );
+        
+        return new ResponseEntity<>(body, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -0,0 +1,125 @@
+package memoapp.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import memoapp.dto.BulkPriorityUpdateRequest;
+import memoapp.entity.Priority;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Times every public {@code MemoService} method and every {@code MemoRepository}
+ * call with Micrometer.
+ * 
+ * Recorded as {@code memo.service} and {@code memo.repository} timers tagged with
+ * the method name, the priority filter, the sort order and the exception thrown
+ * (if any), so a slow filter or sort can be told apart from the rest of the
+ * calls to the same method. Tag values are normalized to a small fixed set:
+ * priorities are sorted and joined, and unknown sort orders are reported as
+ * {@code invalid}, so request parameters cannot inflate the number of series.
+ * 
+ * Runs outside the transaction advice, so service timings include the commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MemoMetricsAspect {
+
+    static final String SERVICE_TIMER = "memo.service";
+    static final String REPOSITORY_TIMER = "memo.repository";
+    
+    private static final String ALL = "all";
+    private static final String NONE = "none";
+    
+    private final MeterRegistry meterRegistry;
+    
+    public MemoMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Around("execution(public * memoapp.service.MemoService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint);
+    }
+    
+    @Around("this(memoapp.repository.MemoRepository) && execution(* *(..)) && !execution(* java.lang.Object.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, joinPoint);
+    }
+    
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tags(tags(signature, joinPoint.getArgs()))
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+    
+    static Tags tags(MethodSignature signature, Object[] args) {
+        String method = signature.getName();
+        String priority = ALL;
+        String sort = sortOf(method);
+        String[] parameterNames = signature.getParameterNames();
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            if (arg instanceof Priority single) {
+                priority = single.name();
+            } else if (arg instanceof BulkPriorityUpdateRequest request && request.getPriority() != null) {
+                priority = request.getPriority().name();
+            } else if (arg instanceof Collection<?> values && !values.isEmpty()
+                    && values.stream().allMatch(value -> value instanceof Priority)) {
+                priority = values.stream()
+                        .map(Priority.class::cast)
+                        .distinct()
+                        .sorted()
+                        .map(Priority::name)
+                        .collect(Collectors.joining(","));
+            } else if (parameterNames != null && "sortOrder".equals(parameterNames[i])) {
+                sort = normalizeSort((String) arg);
+            }
+        }
+        return Tags.of("method", method, "priority", priority, "sort", sort);
+    }
+    
+    /**
+     * Repository methods encode their sort order in the method name.
+     */
+    private static String sortOf(String method) {
+        if (method.contains("PriorityDesc") || method.contains("RankDesc")) {
+            return "priority_desc";
+        }
+        if (method.contains("PriorityAsc") || method.contains("RankAsc")) {
+            return "priority_asc";
+        }
+        return NONE;
+    }
+    
+    private static String normalizeSort(String sortOrder) {
+        if (sortOrder == null || sortOrder.isEmpty()) {
+            return NONE;
+        }
+        String normalized = sortOrder.toLowerCase(Locale.ROOT);
+        return Objects.equals(normalized, "priority_desc") || Objects.equals(normalized, "priority_asc")
+                ? normalized : "invalid";
+    }
+}
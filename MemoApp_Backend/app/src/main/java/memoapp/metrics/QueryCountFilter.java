@@ -0,0 +1,89 @@
+package memoapp.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import memoapp.config.MemoProperties;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JDBC statements issued while handling each HTTP request.
+ * 
+ * Resets the per-thread counters of {@link QueryCountHolder} before the request
+ * and, afterwards, records the statement count and total statement time as
+ * {@code memo.request.statements} and {@code memo.request.statement.time},
+ * tagged with the HTTP method and URI pattern. Requests issuing more than
+ * {@code memo.query-budget.max-statements} statements are logged as warnings,
+ * which makes N+1 patterns visible without tracing every statement.
+ * 
+ * Only statements run on the request thread are counted; work handed to other
+ * threads, such as the streamed NDJSON export, is not attributed to the request.
+ */
+@Component
+@Profile("!reactive")
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+    
+    private final MemoProperties.QueryBudget budget;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    
+    public QueryCountFilter(MemoProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.budget = properties.getQueryBudget();
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountHolder.clear();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCount count = QueryCountHolder.getGrandTotal();
+            QueryCountHolder.clear();
+            record(request, count);
+        }
+    }
+    
+    private void record(HttpServletRequest request, QueryCount count) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        
+        meterRegistry.ifAvailable(registry -> {
+            DistributionSummary.builder("memo.request.statements")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(registry)
+                    .record(count.getTotal());
+            Timer.builder("memo.request.statement.time")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(registry)
+                    .record(count.getTime(), TimeUnit.MILLISECONDS);
+        });
+        
+        int maxStatements = budget.getMaxStatements();
+        if (maxStatements > 0 && count.getTotal() > maxStatements) {
+            log.warn("{} {} issued {} JDBC statements ({} select, {} insert, {} update, {} delete) in {} ms; budget is {}",
+                    request.getMethod(), uri, count.getTotal(), count.getSelect(), count.getInsert(),
+                    count.getUpdate(), count.getDelete(), count.getTime(), maxStatements);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package memoapp.metrics;
+
+import memoapp.config.MemoProperties;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the statements counted so far by {@link QueryCountFilter} to responses
+ * as {@code X-Query-Count} and {@code X-Query-Time} (milliseconds).
+ * 
+ * Headers have to be set before the body is written, so this runs just before
+ * serialization; responses without a body (e.g. 204, 304) carry no headers.
+ * Disable with {@code memo.query-budget.expose-headers=false}.
+ */
+@ControllerAdvice
+@Profile("!reactive")
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time";
+    
+    private final MemoProperties.QueryBudget budget;
+    
+    public QueryCountHeaderAdvice(MemoProperties properties) {
+        this.budget = properties.getQueryBudget();
+    }
+    
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return budget.isExposeHeaders();
+    }
+    
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryCount count = QueryCountHolder.getGrandTotal();
+        response.getHeaders().set(QUERY_COUNT_HEADER, Long.toString(count.getTotal()));
+        response.getHeaders().set(QUERY_TIME_HEADER, Long.toString(count.getTime()));
+        return body;
+    }
+}
@@ -1,17 +1,49 @@
 package memoapp.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import memoapp.dto.MemoPriorityView;
+import memoapp.dto.MemoSearchHit;
+import memoapp.dto.MemoSummary;
+import memoapp.dto.PriorityCount;
 import memoapp.entity.Memo;
 import memoapp.entity.Priority;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface MemoRepository extends JpaRepository<Memo, Long> {
     
+    /**
+     * Selects list rows as {@link MemoSummary} with only a content prefix, one
+     * character longer than the preview so truncation can be detected.
+     */
+    String SELECT_SUMMARY = "SELECT new memoapp.dto.MemoSummary(m.id, m.title, " +
+            "SUBSTRING(m.content, 1, " + (MemoSummary.PREVIEW_LENGTH + 1) + "), " +
+            "m.priority, m.createdAt, m.updatedAt) FROM Memo m ";
+    
+    /**
+     * Selects unmanaged {@link Memo} instances including the lazily loaded
+     * content, in a single statement. Nothing is added to the persistence
+     * context, so results need no detaching and are never dirty-checked.
+     */
+    String SELECT_WITH_CONTENT = "SELECT new memoapp.entity.Memo(m.id, m.title, m.content, " +
+            "m.priority, m.createdAt, m.updatedAt, m.version) FROM Memo m ";
+    
     List<Memo> findByPriorityIn(List<Priority> priorities);
     
     List<Memo> findAllByOrderByPriorityDesc();
@@ -20,24 +52,193 @@ public interface MemoRepository extends JpaRepository<Memo, Long> {
     
     long countByPriority(Priority priority);
     
-    @Query("SELECT m FROM Memo m WHERE m.priority IN :priorities ORDER BY m.priority DESC, m.createdAt DESC")
-    List<Memo> findByPrioritiesOrderByPriorityDescCreatedAtDesc(@Param("priorities") List<Priority> priorities);
-    
-    @Query("SELECT m FROM Memo m ORDER BY " +
-           "CASE m.priority " +
-           "WHEN memoapp.entity.Priority.HIGH THEN 3 " +
-           "WHEN memoapp.entity.Priority.MEDIUM THEN 2 " +
-           "WHEN memoapp.entity.Priority.LOW THEN 1 " +
-           "WHEN memoapp.entity.Priority.NONE THEN 0 " +
-           "END DESC, m.createdAt DESC")
-    List<Memo> findAllOrderByPriorityDescCreatedAtDesc();
-    
-    @Query("SELECT m FROM Memo m ORDER BY " +
-           "CASE m.priority " +
-           "WHEN memoapp.entity.Priority.HIGH THEN 3 " +
-           "WHEN memoapp.entity.Priority.MEDIUM THEN 2 " +
-           "WHEN memoapp.entity.Priority.LOW THEN 1 " +
-           "WHEN memoapp.entity.Priority.NONE THEN 0 " +
-           "END ASC, m.createdAt DESC")
-    List<Memo> findAllOrderByPriorityAscCreatedAtDesc();
+    /**
+     * Counts memos per priority in a single grouped aggregate query.
+     * Priorities without any memos are absent from the result.
+     */
+    @Query("SELECT m.priority AS priority, COUNT(m) AS memoCount FROM Memo m GROUP BY m.priority")
+    List<PriorityCount> countGroupByPriority();
+    
+    /**
+     * Memo with its content, read in one statement and returned unmanaged.
+     * {@link #findById} leaves the content to be loaded on first access.
+     */
+    @Query(SELECT_WITH_CONTENT + "WHERE m.id = :id")
+    Optional<Memo> findWithContentById(@Param("id") Long id);
+    
+    /**
+     * Summaries of all memos in ID order.
+     */
+    @Query(SELECT_SUMMARY + "ORDER BY m.id")
+    List<MemoSummary> findAllSummaries();
+    
+    /**
+     * Summaries of the given memos, in no particular order. IDs without a
+     * matching memo are simply absent from the result.
+     */
+    @Query(SELECT_SUMMARY + "WHERE m.id IN :ids")
+    List<MemoSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Memos with any of the given priorities, highest priority first, then newest.
+     * Filters and sorts on {@code priority_rank} so the composite index applies.
+     */
+    default List<MemoSummary> findByPrioritiesOrderByPriorityDescCreatedAtDesc(List<Priority> priorities) {
+        return findByPriorityRankInOrderByPriorityRankDesc(ranksOf(priorities));
+    }
+    
+    @Query(SELECT_SUMMARY + "WHERE m.priorityRank IN :ranks ORDER BY m.priorityRank DESC, m.createdAt DESC, m.id DESC")
+    List<MemoSummary> findByPriorityRankInOrderByPriorityRankDesc(@Param("ranks") Collection<Integer> ranks);
+    
+    @Query(SELECT_SUMMARY + "ORDER BY m.priorityRank DESC, m.createdAt DESC, m.id DESC")
+    List<MemoSummary> findAllOrderByPriorityDescCreatedAtDesc();
+    
+    @Query(SELECT_SUMMARY + "ORDER BY m.priorityRank ASC, m.createdAt DESC, m.id DESC")
+    List<MemoSummary> findAllOrderByPriorityAscCreatedAtDesc();
+    
+    /**
+     * Keyset page ordered by priority (high to low), newest first, then id.
+     * Returns rows strictly after the given (rank, createdAt, id) position.
+     */
+    default List<MemoSummary> findPageOrderByPriorityDesc(List<Priority> priorities, int rank,
+                                                          LocalDateTime createdAt, long id, Pageable pageable) {
+        return findPageByRankDesc(ranksOf(priorities), rank, createdAt, id, pageable);
+    }
+    
+    /**
+     * Keyset page ordered by priority (low to high), newest first, then id.
+     * Returns rows strictly after the given (rank, createdAt, id) position.
+     */
+    default List<MemoSummary> findPageOrderByPriorityAsc(List<Priority> priorities, int rank,
+                                                         LocalDateTime createdAt, long id, Pageable pageable) {
+        return findPageByRankAsc(ranksOf(priorities), rank, createdAt, id, pageable);
+    }
+    
+    // The redundant leading bound on priorityRank gives the planner an index
+    // range to start from; the OR-expanded predicate alone is only a filter
+    @Query(SELECT_SUMMARY + "WHERE m.priorityRank IN :ranks AND m.priorityRank <= :rank AND (" +
+           "m.priorityRank < :rank OR (m.priorityRank = :rank AND " +
+           "(m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)))) " +
+           "ORDER BY m.priorityRank DESC, m.createdAt DESC, m.id DESC")
+    List<MemoSummary> findPageByRankDesc(@Param("ranks") Collection<Integer> ranks,
+                                         @Param("rank") int rank,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") long id,
+                                         Pageable pageable);
+    
+    @Query(SELECT_SUMMARY + "WHERE m.priorityRank IN :ranks AND m.priorityRank >= :rank AND (" +
+           "m.priorityRank > :rank OR (m.priorityRank = :rank AND " +
+           "(m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)))) " +
+           "ORDER BY m.priorityRank ASC, m.createdAt DESC, m.id DESC")
+    List<MemoSummary> findPageByRankAsc(@Param("ranks") Collection<Integer> ranks,
+                                        @Param("rank") int rank,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") long id,
+                                        Pageable pageable);
+    
+    /**
+     * Keyset page of memos ordered by (updatedAt, id), strictly after the
+     * given position. Used by delta sync to find memos changed since a point.
+     * Returns unmanaged memos including their content.
+     */
+    @Query(SELECT_WITH_CONTENT + "WHERE m.updatedAt > :updatedAt OR " +
+           "(m.updatedAt = :updatedAt AND m.id > :id) ORDER BY m.updatedAt, m.id")
+    List<Memo> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                @Param("id") long id,
+                                Pageable pageable);
+    
+    /**
+     * Streams every memo, including its content, in ID order through a
+     * forward-only JDBC cursor.
+     * 
+     * Must be consumed inside a transaction and closed by the caller. The
+     * fetch size bounds how many rows the driver buffers at a time. The
+     * memos are unmanaged, so the persistence context does not grow while
+     * the stream is consumed.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_WITH_CONTENT + "ORDER BY m.id")
+    Stream<Memo> streamAllByOrderByIdAsc();
+    
+    /**
+     * Locks the given memos for update and returns their current priorities
+     * and versions. IDs without a matching memo are simply absent from the result.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m.id AS id, m.priority AS priority, m.version AS version FROM Memo m WHERE m.id IN :ids ORDER BY m.id")
+    List<MemoPriorityView> lockPrioritiesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Sets the priority of all given memos in one set-based UPDATE statement.
+     * Bypasses entity lifecycle callbacks, so the timestamp is passed
+     * explicitly and the version is incremented in the statement.
+     * 
+     * @return number of rows updated
+     */
+    default int updatePriorityByIdIn(Collection<Long> ids, Priority priority, LocalDateTime updatedAt) {
+        return updatePriorityAndRankByIdIn(ids, priority, priority.getOrder(), updatedAt);
+    }
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Memo m SET m.priority = :priority, m.priorityRank = :rank, m.updatedAt = :updatedAt, " +
+           "m.version = m.version + 1 WHERE m.id IN :ids")
+    int updatePriorityAndRankByIdIn(@Param("ids") Collection<Long> ids,
+                                    @Param("priority") Priority priority,
+                                    @Param("rank") int rank,
+                                    @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Sets the priority of one memo only if it still has the expected
+     * version and priority, in a single UPDATE statement without loading the
+     * memo first. Since every change bumps the version, the priority check
+     * only rejects a priority that does not belong to that version.
+     * Bypasses entity lifecycle callbacks like {@link #updatePriorityByIdIn}.
+     * 
+     * @return 1 if the memo was updated, 0 if it does not exist or its
+     *         version or priority differs
+     */
+    default int updatePriorityByIdAndVersion(Long id, long version, Priority previousPriority,
+                                             Priority priority, LocalDateTime updatedAt) {
+        return updatePriorityAndRankByIdAndVersion(id, version, previousPriority, priority, priority.getOrder(),
+                updatedAt);
+    }
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Memo m SET m.priority = :priority, m.priorityRank = :rank, m.updatedAt = :updatedAt, " +
+           "m.version = m.version + 1 " +
+           "WHERE m.id = :id AND m.version = :version AND m.priority = :previousPriority")
+    int updatePriorityAndRankByIdAndVersion(@Param("id") Long id,
+                                            @Param("version") long version,
+                                            @Param("previousPriority") Priority previousPriority,
+                                            @Param("priority") Priority priority,
+                                            @Param("rank") int rank,
+                                            @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Full-text search over title and content using the GIN-indexed
+     * {@code search_vector} column (PostgreSQL only).
+     * 
+     * Results are ordered by relevance, then ID, and keyset-paginated on that
+     * pair: only matches strictly after (rank, id) are returned. The query
+     * accepts web-search syntax, e.g. quoted phrases, {@code or} and {@code -word}.
+     */
+    @Query(value = "SELECT hits.id AS id, hits.rank AS rank FROM (" +
+                   "SELECT m.id AS id, ts_rank_cd(m.search_vector, q.query) AS rank " +
+                   "FROM memos m, websearch_to_tsquery('simple', :query) AS q(query) " +
+                   "WHERE m.search_vector @@ q.query) hits " +
+                   "WHERE hits.rank < :rank OR (hits.rank = :rank AND hits.id < :id) " +
+                   "ORDER BY hits.rank DESC, hits.id DESC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<MemoSearchHit> searchByText(@Param("query") String query,
+                                     @Param("rank") float rank,
+                                     @Param("id") long id,
+                                     @Param("limit") int limit);
+    
+    /**
+     * Maps priorities to the values stored in the {@code priority_rank} column.
+     */
+    private static List<Integer> ranksOf(Collection<Priority> priorities) {
+        return priorities.stream().map(Priority::getOrder).distinct().toList();
+    }
 }
\ No newline at end of file
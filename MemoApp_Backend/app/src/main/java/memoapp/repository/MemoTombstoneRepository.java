@@ -0,0 +1,35 @@
+package memoapp.repository;
+
+import memoapp.entity.MemoTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MemoTombstoneRepository extends JpaRepository<MemoTombstone, Long> {
+    
+    /**
+     * Keyset page of tombstones ordered by (deletedAt, memoId), strictly after
+     * the given position.
+     */
+    @Query("SELECT t FROM MemoTombstone t WHERE t.deletedAt > :deletedAt OR " +
+           "(t.deletedAt = :deletedAt AND t.memoId > :memoId) ORDER BY t.deletedAt, t.memoId")
+    List<MemoTombstone> findDeletedAfter(@Param("deletedAt") LocalDateTime deletedAt,
+                                         @Param("memoId") long memoId,
+                                         Pageable pageable);
+    
+    /**
+     * Removes tombstones older than the cutoff in one statement.
+     * 
+     * @return number of tombstones removed
+     */
+    @Modifying
+    @Query("DELETE FROM MemoTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteByDeletedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,134 @@
+package memoapp.repository;
+
+import io.r2dbc.spi.Readable;
+import memoapp.dto.MemoSummary;
+import memoapp.dto.PriorityCount;
+import memoapp.entity.Memo;
+import memoapp.entity.Priority;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Non-blocking read access to the {@code memos} table over R2DBC.
+ * 
+ * Mirrors the read queries of {@link MemoRepository}, including its filter and
+ * sort semantics and its content previews for lists: priority queries filter and order on {@code priority_rank}
+ * so the composite indexes apply, with ties broken by newest first, then id.
+ * 
+ * {@link Memo} is a JPA entity, so rows are mapped explicitly instead of
+ * through Spring Data R2DBC's entity mapping. Rows are fetched in batches
+ * as subscribers request them, so a slow client holds back the query rather
+ * than buffering the whole result.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveMemoRepository {
+
+    private static final String SELECT_MEMOS =
+            "SELECT id, title, content, priority, created_at, updated_at, version FROM memos ";
+    
+    // Same content prefix as MemoRepository.SELECT_SUMMARY
+    private static final String SELECT_SUMMARIES =
+            "SELECT id, title, SUBSTRING(content FROM 1 FOR " + (MemoSummary.PREVIEW_LENGTH + 1) + ") AS content, "
+            + "priority, created_at, updated_at FROM memos ";
+    
+    private static final int FETCH_SIZE = 500;
+    
+    private final DatabaseClient databaseClient;
+    
+    public ReactiveMemoRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+    
+    public Flux<MemoSummary> findAllSummaries() {
+        return query(SELECT_SUMMARIES + "ORDER BY id");
+    }
+    
+    public Mono<Memo> findById(long id) {
+        return databaseClient.sql(SELECT_MEMOS + "WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveMemoRepository::toMemo)
+                .one();
+    }
+    
+    /**
+     * Memos with any of the given priorities, highest priority first, then newest.
+     */
+    public Flux<MemoSummary> findByPrioritiesOrderByPriorityDescCreatedAtDesc(Collection<Priority> priorities) {
+        Integer[] ranks = priorities.stream().map(Priority::getOrder).distinct().toArray(Integer[]::new);
+        return databaseClient.sql(SELECT_SUMMARIES + "WHERE priority_rank = ANY(:ranks) "
+                        + "ORDER BY priority_rank DESC, created_at DESC, id DESC")
+                .bind("ranks", ranks)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveMemoRepository::toSummary)
+                .all();
+    }
+    
+    public Flux<MemoSummary> findAllOrderByPriorityDescCreatedAtDesc() {
+        return query(SELECT_SUMMARIES + "ORDER BY priority_rank DESC, created_at DESC, id DESC");
+    }
+    
+    public Flux<MemoSummary> findAllOrderByPriorityAscCreatedAtDesc() {
+        return query(SELECT_SUMMARIES + "ORDER BY priority_rank ASC, created_at DESC, id DESC");
+    }
+    
+    /**
+     * Counts memos per priority in a single grouped aggregate query.
+     * Priorities without any memos are absent from the result.
+     */
+    public Flux<PriorityCount> countGroupByPriority() {
+        return databaseClient.sql("SELECT priority, COUNT(*) AS memo_count FROM memos GROUP BY priority")
+                .map(row -> (PriorityCount) new GroupedCount(
+                        Priority.valueOf(row.get("priority", String.class)),
+                        row.get("memo_count", Long.class)))
+                .all();
+    }
+    
+    private Flux<MemoSummary> query(String sql) {
+        return databaseClient.sql(sql)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveMemoRepository::toSummary)
+                .all();
+    }
+    
+    private static Memo toMemo(Readable row) {
+        Memo memo = new Memo();
+        memo.setId(row.get("id", Long.class));
+        memo.setTitle(row.get("title", String.class));
+        memo.setContent(row.get("content", String.class));
+        memo.setPriority(Priority.valueOf(row.get("priority", String.class)));
+        memo.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        memo.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        memo.setVersion(row.get("version", Long.class));
+        return memo;
+    }
+    
+    private static MemoSummary toSummary(Readable row) {
+        return new MemoSummary(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("content", String.class),
+                Priority.valueOf(row.get("priority", String.class)),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class));
+    }
+    
+    private record GroupedCount(Priority priority, long memoCount) implements PriorityCount {
+    
+        @Override
+        public Priority getPriority() {
+            return priority;
+        }
+        
+        @Override
+        public long getMemoCount() {
+            return memoCount;
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package memoapp.search;
+
+import memoapp.dto.MemoSuggestion;
+import memoapp.dto.SearchIndexStatistics;
+import memoapp.entity.Memo;
+import memoapp.entity.Priority;
+import memoapp.event.MemoChangeEvent;
+import memoapp.repository.MemoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over memo titles and contents for type-ahead search.
+ * 
+ * Maps each lowercase term to a sorted posting list of memo IDs held as
+ * primitive {@code long}s, plus one posting list per priority for filtering.
+ * Every query token is treated as a prefix, and multiple tokens are combined
+ * with AND, so "meet no" matches a memo containing "meeting" and "notes".
+ * 
+ * The index is built from the database once the application is ready and
+ * then kept current from committed {@link MemoChangeEvent}s published by
+ * {@code MemoService}. It is disabled by default; enable it with
+ * {@code memo.search.in-memory.enabled=true}. Each instance indexes only the
+ * writes it sees itself, so in a multi-node deployment it lags other nodes'
+ * writes until the next restart.
+ */
+@Component
+@ConditionalOnProperty(prefix = "memo.search.in-memory", name = "enabled", havingValue = "true")
+public class InMemoryMemoIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryMemoIndex.class);
+    
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TERM_LENGTH = 64;
+    
+    private final MemoRepository memoRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // Guarded by lock
+    private Index index = new Index();
+    // Non-null while a rebuild is running; changes seen meanwhile are replayed onto the new index
+    private List<MemoChangeEvent> pendingDuringRebuild;
+    
+    public InMemoryMemoIndex(MemoRepository memoRepository, PlatformTransactionManager transactionManager) {
+        this.memoRepository = memoRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+    
+    /**
+     * Rebuilds the index from the database, streaming memos so the whole table
+     * is never materialized at once. Queries keep using the previous index
+     * until the new one is swapped in.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        Index fresh = new Index();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Memo> memos = memoRepository.streamAllByOrderByIdAsc()) {
+                    Iterator<Memo> iterator = memos.iterator();
+                    while (iterator.hasNext()) {
+                        Memo memo = iterator.next();
+                        fresh.put(memo.getId(), memo.getTitle(), memo.getContent(), memo.getPriority());
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(fresh::apply);
+            pendingDuringRebuild = null;
+            index = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("In-memory memo index built with {} memos and {} terms", fresh.documents.size(), fresh.postings.size());
+    }
+    
+    /**
+     * Applies a committed memo change to the index. Falls back to immediate
+     * execution when the change was published outside a transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemoChanged(MemoChangeEvent event) {
+        lock.writeLock().lock();
+        try {
+            index.apply(event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Finds memos containing every token of the query as a term prefix.
+     * 
+     * @param query free text; split on anything that is not a letter or digit
+     * @param priorities priorities to include; null or empty means all
+     * @param limit maximum number of suggestions
+     * @return matching memos, newest (highest ID) first
+     */
+    public List<MemoSuggestion> search(String query, Collection<Priority> priorities, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        
+        lock.readLock().lock();
+        try {
+            return index.search(tokens, priorities, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Reports the size of the index and an estimate of its heap footprint.
+     */
+    public SearchIndexStatistics getStatistics() {
+        lock.readLock().lock();
+        try {
+            return index.statistics();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Splits text into distinct lowercase terms, ignoring punctuation and
+     * truncating very long tokens.
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                terms.add(token.length() > MAX_TERM_LENGTH ? token.substring(0, MAX_TERM_LENGTH) : token);
+            }
+        }
+        return List.copyOf(terms);
+    }
+    
+    /**
+     * Indexed copy of a memo: the title for rendering suggestions, the current
+     * priority, and the terms it was indexed under so it can be removed
+     * without re-reading its previous content.
+     */
+    private record Document(String title, Priority priority, String[] terms) {
+    }
+    
+    /**
+     * The index data itself; callers hold the appropriate lock.
+     */
+    static final class Index {
+    
+        private final TreeMap<String, LongPostingList> postings = new TreeMap<>();
+        private final LongPostingList[] byPriority = new LongPostingList[Priority.values().length];
+        private final LongObjectHashMap<Document> documents = new LongObjectHashMap<>();
+        
+        Index() {
+            for (int i = 0; i < byPriority.length; i++) {
+                byPriority[i] = new LongPostingList();
+            }
+        }
+        
+        void apply(MemoChangeEvent event) {
+            switch (event.getType()) {
+                case CREATED, UPDATED -> put(event.getMemoId(), event.getTitle(), event.getContent(), event.getPriority());
+                case PRIORITY_CHANGED -> changePriority(event.getMemoId(), event.getPriority());
+                case DELETED -> remove(event.getMemoId());
+            }
+        }
+        
+        void put(long id, String title, String content, Priority priority) {
+            remove(id);
+            
+            Set<String> terms = new LinkedHashSet<>(tokenize(title));
+            terms.addAll(tokenize(content));
+            for (String term : terms) {
+                postings.computeIfAbsent(term, t -> new LongPostingList()).add(id);
+            }
+            byPriority[priority.ordinal()].add(id);
+            documents.put(id, new Document(title, priority, terms.toArray(String[]::new)));
+        }
+        
+        void changePriority(long id, Priority priority) {
+            Document document = documents.get(id);
+            if (document == null || document.priority() == priority) {
+                return;
+            }
+            byPriority[document.priority().ordinal()].remove(id);
+            byPriority[priority.ordinal()].add(id);
+            documents.put(id, new Document(document.title(), priority, document.terms()));
+        }
+        
+        void remove(long id) {
+            Document document = documents.remove(id);
+            if (document == null) {
+                return;
+            }
+            for (String term : document.terms()) {
+                LongPostingList list = postings.get(term);
+                if (list != null && list.remove(id) && list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            byPriority[document.priority().ordinal()].remove(id);
+        }
+        
+        List<MemoSuggestion> search(List<String> tokens, Collection<Priority> priorities, int limit) {
+            long[] matches = null;
+            for (String token : tokens) {
+                // All terms starting with the token
+                NavigableMap<String, LongPostingList> range =
+                        postings.subMap(token, true, token + Character.MAX_VALUE, false);
+                long[] ids = LongPostingList.union(range.values());
+                matches = matches == null ? ids : LongPostingList.intersect(matches, ids);
+                if (matches.length == 0) {
+                    return List.of();
+                }
+            }
+            
+            Set<Priority> selectedPriorities = priorities == null || priorities.isEmpty()
+                    ? EnumSet.allOf(Priority.class) : EnumSet.copyOf(priorities);
+            if (selectedPriorities.size() < byPriority.length) {
+                List<LongPostingList> selected = new ArrayList<>();
+                for (Priority priority : selectedPriorities) {
+                    selected.add(byPriority[priority.ordinal()]);
+                }
+                matches = LongPostingList.intersect(matches, LongPostingList.union(selected));
+            }
+            
+            List<MemoSuggestion> suggestions = new ArrayList<>(Math.min(limit, matches.length));
+            for (int i = matches.length - 1; i >= 0 && suggestions.size() < limit; i--) {
+                Document document = documents.get(matches[i]);
+                suggestions.add(new MemoSuggestion(matches[i], document.title(), document.priority()));
+            }
+            return suggestions;
+        }
+        
+        /**
+         * Estimates heap usage assuming a 64-bit JVM with compressed object
+         * pointers and compact (Latin-1) strings; terms are shared between the
+         * term dictionary and the documents that reference them.
+         */
+        SearchIndexStatistics statistics() {
+            long postingCount = 0;
+            long bytes = 48 + documents.estimatedBytes();
+            for (Map.Entry<String, LongPostingList> entry : postings.entrySet()) {
+                postingCount += entry.getValue().size();
+                // TreeMap entry + term string + posting list
+                bytes += 40 + stringBytes(entry.getKey()) + entry.getValue().estimatedBytes();
+            }
+            for (LongPostingList list : byPriority) {
+                bytes += list.estimatedBytes();
+            }
+            return new SearchIndexStatistics(documents.size(), postings.size(), postingCount,
+                    bytes + documentBytes());
+        }
+        
+        private long documentBytes() {
+            // Document record + term reference array + title, per memo
+            long bytes = 0;
+            for (LongPostingList list : byPriority) {
+                for (long id : list.toArray()) {
+                    Document document = documents.get(id);
+                    bytes += 24 + 16 + 4L * document.terms().length + stringBytes(document.title());
+                }
+            }
+            return bytes;
+        }
+        
+        private static long stringBytes(String value) {
+            return value == null ? 0 : 24 + 16 + value.length();
+        }
+    }
+}
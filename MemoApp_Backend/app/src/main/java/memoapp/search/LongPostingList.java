@@ -0,0 +1,192 @@
+package memoapp.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sorted, duplicate-free list of memo IDs stored as primitive {@code long}s.
+ * 
+ * IDs are kept in ascending order so lists can be merged and intersected
+ * in linear time. Appending an ID larger than every existing one (the
+ * common case, since IDs come from a sequence) is amortized O(1).
+ * Not thread-safe; {@link InMemoryMemoIndex} guards access.
+ */
+final class LongPostingList {
+    
+    private static final long[] EMPTY = new long[0];
+    
+    private long[] ids = new long[4];
+    private int size;
+    
+    /**
+     * Adds an ID if it is not already present.
+     * 
+     * @return true if the list changed
+     */
+    boolean add(long id) {
+        int insertAt;
+        if (size == 0 || id > ids[size - 1]) {
+            insertAt = size;
+        } else {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return false;
+            }
+            insertAt = -index - 1;
+        }
+        
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+        return true;
+    }
+    
+    /**
+     * Removes an ID if present.
+     * 
+     * @return true if the list changed
+     */
+    boolean remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        return true;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * @return a sorted copy of the IDs in this list
+     */
+    long[] toArray() {
+        return size == 0 ? EMPTY : Arrays.copyOf(ids, size);
+    }
+    
+    /**
+     * Approximate heap size of this list, assuming compressed object pointers.
+     */
+    long estimatedBytes() {
+        return 24 + 16 + 8L * ids.length;
+    }
+    
+    /**
+     * Merges several posting lists into one sorted array without duplicates.
+     * 
+     * The lists are merged in a single pass with a min-heap of list cursors,
+     * so the cost is O(n log k) for n postings across k lists. Short
+     * prefixes expand to many terms, where merging pairwise would copy the
+     * growing result once per term.
+     */
+    static long[] union(Iterable<LongPostingList> lists) {
+        List<LongPostingList> sources = new ArrayList<>();
+        int total = 0;
+        for (LongPostingList list : lists) {
+            if (list.size > 0) {
+                sources.add(list);
+                total += list.size;
+            }
+        }
+        if (sources.isEmpty()) {
+            return EMPTY;
+        }
+        if (sources.size() == 1) {
+            return sources.get(0).toArray();
+        }
+        
+        int k = sources.size();
+        long[][] postings = new long[k][];
+        int[] sizes = new int[k];
+        int[] positions = new int[k];
+        int[] heap = new int[k];
+        for (int i = 0; i < k; i++) {
+            postings[i] = sources.get(i).ids;
+            sizes[i] = sources.get(i).size;
+            heap[i] = i;
+        }
+        for (int i = k / 2 - 1; i >= 0; i--) {
+            siftDown(heap, k, i, postings, positions);
+        }
+        
+        long[] result = new long[total];
+        int n = 0;
+        int heapSize = k;
+        while (heapSize > 0) {
+            int source = heap[0];
+            long id = postings[source][positions[source]];
+            if (n == 0 || result[n - 1] != id) {
+                result[n++] = id;
+            }
+            if (++positions[source] == sizes[source]) {
+                heap[0] = heap[--heapSize];
+            }
+            if (heapSize > 0) {
+                siftDown(heap, heapSize, 0, postings, positions);
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+    
+    /**
+     * Intersects two sorted arrays.
+     */
+    static long[] intersect(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+    
+    /**
+     * Restores the heap order below {@code index}, comparing the current
+     * head ID of each list cursor.
+     */
+    private static void siftDown(int[] heap, int heapSize, int index, long[][] postings, int[] positions) {
+        int source = heap[index];
+        long id = postings[source][positions[source]];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            int right = child + 1;
+            if (right < heapSize && head(heap[right], postings, positions) < head(heap[child], postings, positions)) {
+                child = right;
+            }
+            if (id <= head(heap[child], postings, positions)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = source;
+    }
+    
+    private static long head(int source, long[][] postings, int[] positions) {
+        return postings[source][positions[source]];
+    }
+}
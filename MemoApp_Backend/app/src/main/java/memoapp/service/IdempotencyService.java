@@ -0,0 +1,234 @@
+package memoapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import memoapp.config.MemoProperties;
+import memoapp.entity.IdempotencyRecord;
+import memoapp.exception.IdempotencyKeyConflictException;
+import memoapp.exception.MemoValidationException;
+import memoapp.repository.IdempotencyRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Replays stored responses for retried requests that carry an
+ * {@code Idempotency-Key} header, so a retry neither creates a duplicate
+ * nor repeats the write.
+ * 
+ * Responses are kept per endpoint and key in a bounded in-memory cache that
+ * evicts them after {@code memo.idempotency.time-to-live}. With
+ * {@code memo.idempotency.persistent=true} they are also written to the
+ * {@code idempotency_keys} table, so retries are recognized after a restart
+ * or by another instance.
+ * 
+ * The response is stored after the write has committed, so a crash in
+ * between lets one retry through. A retry that arrives while the first
+ * request is still running is rejected with 409 on the same instance only;
+ * another instance does not see the in-flight request and runs it too, but
+ * the request whose response is stored second is answered with the first
+ * one's response, as a replay. Failed requests are not stored, so they can
+ * be retried with the same key.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+    
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 255;
+    
+    // Held for a key while its first request runs; never replayed
+    private static final StoredResponse IN_PROGRESS = new StoredResponse("", 0, null);
+    
+    private final Cache<String, StoredResponse> responses;
+    private final IdempotencyRecordRepository recordRepository;
+    private final ObjectMapper objectMapper;
+    private final MemoProperties.Idempotency settings;
+    
+    public IdempotencyService(IdempotencyRecordRepository recordRepository, ObjectMapper objectMapper,
+                              MemoProperties properties) {
+        this.recordRepository = recordRepository;
+        this.objectMapper = objectMapper;
+        this.settings = properties.getIdempotency();
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(settings.getTimeToLive())
+                .build();
+    }
+    
+    /**
+     * Runs the action once per key and endpoint, replaying its response for
+     * later requests with the same key and body.
+     * 
+     * @param idempotencyKey key sent by the client, or null to simply run the action
+     * @param endpoint identifies the operation, so one key can be used on different endpoints
+     * @param request request body, compared with the body of the first request with this key
+     * @param responseType type of the response body, to read a stored response back
+     * @param action performs the request and returns the response body
+     * @return the action's result, or the stored result with an Idempotent-Replayed header
+     * @throws MemoValidationException if the key is blank or too long
+     * @throws IdempotencyKeyConflictException if the first request with this key is
+     *         still running or had a different body
+     */
+    public <T> ResponseEntity<T> execute(String idempotencyKey, String endpoint, Object request,
+                                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(action.get());
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new MemoValidationException(
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters",
+                    IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        
+        String storeKey = endpoint + " " + idempotencyKey;
+        String requestHash = hash(request);
+        
+        StoredResponse previous = responses.asMap().putIfAbsent(storeKey, IN_PROGRESS);
+        if (previous == null && settings.isPersistent()) {
+            previous = findStored(storeKey);
+            if (previous != null) {
+                responses.put(storeKey, previous);
+            }
+        }
+        if (previous != null) {
+            return replay(idempotencyKey, requestHash, previous, responseType);
+        }
+        
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            responses.asMap().remove(storeKey, IN_PROGRESS);
+            throw e;
+        }
+        
+        StoredResponse concurrent = store(storeKey, requestHash, result);
+        if (concurrent != null) {
+            return replay(idempotencyKey, requestHash, concurrent, responseType);
+        }
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * Deletes stored responses older than the time to live.
+     * 
+     * @return number of records removed
+     */
+    @Scheduled(fixedDelayString = "${memo.idempotency.purge-interval:PT1H}",
+               initialDelayString = "${memo.idempotency.purge-interval:PT1H}")
+    @Transactional
+    public int purgeExpiredRecords() {
+        if (!settings.isPersistent()) {
+            return 0;
+        }
+        int purged = recordRepository.deleteByCreatedAtBefore(LocalDateTime.now().minus(settings.getTimeToLive()));
+        if (purged > 0) {
+            log.info("Purged {} idempotency records", purged);
+        }
+        return purged;
+    }
+    
+    private <T> ResponseEntity<T> replay(String idempotencyKey, String requestHash,
+                                         StoredResponse stored, Class<T> responseType) {
+        if (stored == IN_PROGRESS) {
+            throw new IdempotencyKeyConflictException(idempotencyKey, IdempotencyKeyConflictException.Reason.IN_PROGRESS);
+        }
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyConflictException(idempotencyKey, IdempotencyKeyConflictException.Reason.PAYLOAD_MISMATCH);
+        }
+        
+        try {
+            T body = stored.body() != null ? objectMapper.readValue(stored.body(), responseType) : null;
+            return ResponseEntity.status(stored.status())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored response for Idempotency-Key is unreadable", e);
+        }
+    }
+    
+    /**
+     * Stores the response for later replays.
+     * 
+     * @return the response another instance stored first for the same key,
+     *         which the caller replays, or null if this one was stored
+     */
+    private StoredResponse store(String storeKey, String requestHash, Object result) {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            // The write succeeded; only its replay is lost
+            log.warn("Could not store response for idempotency key {}", storeKey, e);
+            responses.asMap().remove(storeKey, IN_PROGRESS);
+            return null;
+        }
+        
+        StoredResponse stored = new StoredResponse(requestHash, HttpStatus.OK.value(), body);
+        responses.put(storeKey, stored);
+        if (settings.isPersistent()) {
+            try {
+                recordRepository.save(new IdempotencyRecord(
+                        storeKey, requestHash, stored.status(), body, LocalDateTime.now()));
+            } catch (DataIntegrityViolationException e) {
+                // The same key ran concurrently on another instance, which
+                // stored its response first; answer as a replay of that one
+                log.info("Idempotency key {} was stored concurrently by another request", storeKey);
+                return findConcurrent(storeKey);
+            } catch (DataAccessException e) {
+                log.warn("Could not persist response for idempotency key {}", storeKey, e);
+            }
+        }
+        return null;
+    }
+    
+    private StoredResponse findConcurrent(String storeKey) {
+        try {
+            StoredResponse concurrent = findStored(storeKey);
+            if (concurrent != null) {
+                responses.put(storeKey, concurrent);
+            }
+            return concurrent;
+        } catch (DataAccessException e) {
+            log.warn("Could not load response for idempotency key {}", storeKey, e);
+            return null;
+        }
+    }
+    
+    private StoredResponse findStored(String storeKey) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(settings.getTimeToLive());
+        return recordRepository.findById(storeKey)
+                .filter(record -> record.getCreatedAt().isAfter(cutoff))
+                .map(record -> new StoredResponse(record.getRequestHash(), record.getResponseStatus(), record.getResponseBody()))
+                .orElse(null);
+    }
+    
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        }
+    }
+    
+    private record StoredResponse(String requestHash, int status, String body) {
+    }
+}
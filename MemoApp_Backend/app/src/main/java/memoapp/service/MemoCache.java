@@ -0,0 +1,108 @@
+package memoapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import memoapp.config.MemoProperties;
+import memoapp.dto.MemoCacheStatistics;
+import memoapp.entity.Memo;
+import memoapp.event.MemoChangeEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of memos by ID.
+ * 
+ * Entries are detached copies of the entity, and every read hands out a new
+ * copy, so callers can never modify a cached value or a managed entity by
+ * accident. Entries are evicted by size and age, and invalidated once a
+ * transaction that changed the memo commits.
+ * 
+ * Loads run on the caller's thread outside any cache lock, so a slow query
+ * neither blocks other keys nor pins a virtual thread's carrier. A load that
+ * overlaps an invalidation discards its result, so a stale row read just
+ * before a commit cannot outlive that commit.
+ */
+@Component
+public class MemoCache {
+    
+    private final Cache<Long, Memo> cache;
+    // Bumped by every invalidation, so loads can detect one that overlapped them
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    public MemoCache(MemoProperties properties) {
+        MemoProperties.Cache settings = properties.getCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(settings.getTimeToLive())
+                .recordStats()
+                .build();
+    }
+    
+    /**
+     * Returns a copy of the cached memo, loading it on a miss.
+     * 
+     * @param id memo ID
+     * @param loader loads the memo from the database; returns null if it does not exist
+     * @return a copy of the memo, or null if the loader found nothing
+     */
+    public Memo get(Long id, Function<Long, Memo> loader) {
+        Memo cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return copyOf(cached);
+        }
+        
+        long generation = invalidations.get();
+        Memo loaded = loader.apply(id);
+        if (loaded == null) {
+            return null;
+        }
+        
+        Memo copy = copyOf(loaded);
+        cache.put(id, copy);
+        // An invalidation since the load started may have raced with the put
+        if (invalidations.get() != generation) {
+            cache.invalidate(id);
+        }
+        return copyOf(copy);
+    }
+    
+    /**
+     * Removes a memo from the cache.
+     */
+    public void invalidate(Long id) {
+        invalidations.incrementAndGet();
+        cache.invalidate(id);
+    }
+    
+    /**
+     * Invalidates the changed memo once the change has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemoChanged(MemoChangeEvent event) {
+        if (event.getMemoId() != null) {
+            invalidate(event.getMemoId());
+        }
+    }
+    
+    /**
+     * Hit, miss and eviction counters accumulated since startup.
+     */
+    public MemoCacheStatistics getStatistics() {
+        CacheStats stats = cache.stats();
+        return new MemoCacheStatistics(cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount());
+    }
+    
+    private static Memo copyOf(Memo memo) {
+        Memo copy = new Memo(memo.getTitle(), memo.getContent(), memo.getPriority());
+        copy.setId(memo.getId());
+        copy.setCreatedAt(memo.getCreatedAt());
+        copy.setUpdatedAt(memo.getUpdatedAt());
+        copy.setVersion(memo.getVersion());
+        return copy;
+    }
+}
@@ -0,0 +1,131 @@
+package memoapp.service;
+
+import memoapp.config.MemoProperties;
+import memoapp.entity.Memo;
+import memoapp.entity.Priority;
+import memoapp.event.MemoChangeEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tracks a modification version of the memos table for HTTP validators.
+ * 
+ * The version is bumped after every committed memo change, after the data
+ * itself and the priority statistics are visible. A handler that reads the
+ * version before loading data can therefore never pair a new ETag with old
+ * data; at worst it pairs an old ETag with new data, which only costs the
+ * client one extra full response.
+ * 
+ * The version lives in memory and is prefixed with this instance's start
+ * time, so ETags from before a restart or from another instance simply stop
+ * matching. Changes made by other instances or outside the application are
+ * not observed, which is why table-wide ETags are only used when
+ * {@code memo.etag.table-wide} is enabled.
+ */
+@Component
+public class MemoChangeTracker {
+    
+    private static final Pattern MEMO_ETAG = Pattern.compile("\"(\\d+)-(\\d+)-([A-Z]+)\"");
+    
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+    private final boolean tableETagEnabled;
+    
+    public MemoChangeTracker(MemoProperties properties) {
+        this.tableETagEnabled = properties.getEtag().isTableWide();
+    }
+    
+    /**
+     * Whether representations derived from the whole memos table should
+     * carry {@link #getETag()} and be validated against it.
+     */
+    public boolean isTableETagEnabled() {
+        return tableETagEnabled;
+    }
+    
+    /**
+     * Current modification version of the memos table.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+    
+    /**
+     * Strong ETag for any representation derived from the whole memos table.
+     */
+    public String getETag() {
+        return "\"" + epoch + "-" + version.get() + "\"";
+    }
+    
+    /**
+     * Strong ETag for a single memo, derived from its ID, version and priority.
+     * 
+     * Unlike the table-wide ETag it is stable across restarts and instances,
+     * since the version is stored with the memo. The version alone identifies
+     * the memo's state; the priority is included so a conditional priority
+     * update knows the priority it replaces without reading the memo.
+     */
+    public String getETag(Memo memo) {
+        return getETag(memo.getId(), memo.getVersion(), memo.getPriority());
+    }
+    
+    /**
+     * Strong ETag for the given version of a single memo, which has the given priority.
+     */
+    public String getETag(Long memoId, long memoVersion, Priority priority) {
+        return "\"" + memoId + "-" + memoVersion + "-" + priority.getValue() + "\"";
+    }
+    
+    /**
+     * Extracts the memo version and priority from an ETag of the given memo,
+     * as sent in an {@code If-Match} header.
+     * 
+     * @return the version and priority, or empty if the value is not a strong ETag of this memo
+     */
+    public Optional<MemoETag> parseETag(String etag, Long memoId) {
+        Matcher matcher = MEMO_ETAG.matcher(etag.trim());
+        if (!matcher.matches() || !matcher.group(1).equals(String.valueOf(memoId))) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new MemoETag(Long.parseLong(matcher.group(2)), Priority.fromValue(matcher.group(3))));
+        } catch (IllegalArgumentException e) {
+            // Also covers NumberFormatException
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Bumps the version once a memo change has committed.
+     * 
+     * Ordered after the {@link PriorityStatisticsCache} adjustments, so the
+     * new ETag is never served with the old counts, but ahead of listeners
+     * with the default order such as the event broadcaster, which reads the
+     * new version.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PriorityStatisticsCache.ADJUSTMENT_ORDER + 1)
+    public void onMemoChanged(MemoChangeEvent event) {
+        markChanged();
+    }
+    
+    /**
+     * Bumps the version for a change observed without a memo change event,
+     * such as a correction of the cached statistics.
+     */
+    public void markChanged() {
+        version.incrementAndGet();
+    }
+    
+    /**
+     * Version of a memo and the priority it had at that version, as named by its ETag.
+     */
+    public record MemoETag(long version, Priority priority) {
+    }
+}
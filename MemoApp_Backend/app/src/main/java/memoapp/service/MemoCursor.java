@@ -0,0 +1,83 @@
+package memoapp.service;
+
+import memoapp.dto.MemoSummary;
+import memoapp.exception.MemoValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position used by paginated memo listings.
+ * 
+ * Identifies the last row of a page by its (priority order, createdAt, id)
+ * tuple, which matches the ORDER BY of the paginated repository queries.
+ * Encoded as URL-safe Base64 so clients treat it as an opaque token.
+ */
+final class MemoCursor {
+    
+    private static final String SEPARATOR = "|";
+    
+    private final int rank;
+    private final LocalDateTime createdAt;
+    private final long id;
+    
+    MemoCursor(int rank, LocalDateTime createdAt, long id) {
+        this.rank = rank;
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+    
+    /**
+     * Creates a cursor positioned at the given memo.
+     * 
+     * @param memo the last memo of the current page
+     * @return cursor pointing just after the memo
+     */
+    static MemoCursor after(MemoSummary memo) {
+        return new MemoCursor(memo.getPriority().getOrder(), memo.getCreatedAt(), memo.getId());
+    }
+    
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     * 
+     * @param token the opaque cursor string
+     * @return the decoded cursor
+     * @throws MemoValidationException if the token is malformed
+     */
+    static MemoCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new MemoValidationException("Invalid page cursor", "cursor", token);
+            }
+            return new MemoCursor(Integer.parseInt(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new MemoValidationException("Invalid page cursor", "cursor", token);
+        }
+    }
+    
+    /**
+     * Encodes this cursor as an opaque, URL-safe token.
+     * 
+     * @return the encoded cursor
+     */
+    String encode() {
+        String raw = rank + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    int getRank() {
+        return rank;
+    }
+    
+    LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    long getId() {
+        return id;
+    }
+}
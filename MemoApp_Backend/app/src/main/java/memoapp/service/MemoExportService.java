@@ -0,0 +1,73 @@
+package memoapp.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import memoapp.entity.Memo;
+import memoapp.repository.MemoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service for exporting the full memo table as newline-delimited JSON.
+ * 
+ * Walks the table through a forward-only cursor and writes each memo as
+ * soon as it is read. The memos are not attached to the persistence context,
+ * so memory usage stays constant regardless of how many memos exist.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MemoExportService {
+    
+    /**
+     * Number of memos written between explicit flushes of the output stream.
+     */
+    static final int FLUSH_INTERVAL = 500;
+    
+    private final MemoRepository memoRepository;
+    private final ObjectWriter memoWriter;
+    
+    public MemoExportService(MemoRepository memoRepository, ObjectMapper objectMapper) {
+        this.memoRepository = memoRepository;
+        this.memoWriter = objectMapper.writerFor(Memo.class)
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+    
+    /**
+     * Writes every memo to the given stream, one JSON object per line.
+     * 
+     * The output stream is flushed periodically but not closed.
+     * 
+     * @param out the stream to write to
+     * @return number of memos written
+     * @throws IOException if writing to the stream fails
+     */
+    public long exportAsNdjson(OutputStream out) throws IOException {
+        long count = 0;
+        
+        try (Stream<Memo> memos = memoRepository.streamAllByOrderByIdAsc();
+             SequenceWriter writer = memoWriter.writeValues(out)) {
+            Iterator<Memo> iterator = memos.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        
+        if (count > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        return count;
+    }
+}
@@ -1,16 +1,32 @@
 package memoapp.service;
 
+import memoapp.config.MemoProperties;
 import memoapp.dto.BulkPriorityUpdateRequest;
+import memoapp.dto.BulkPriorityUpdateResult;
+import memoapp.dto.MemoCacheStatistics;
+import memoapp.dto.MemoPage;
+import memoapp.dto.MemoPriorityView;
+import memoapp.dto.MemoSearchHit;
+import memoapp.dto.MemoSummary;
 import memoapp.dto.PriorityStatistics;
+import memoapp.dto.PriorityUpdateResult;
 import memoapp.entity.Memo;
+import memoapp.entity.MemoTombstone;
 import memoapp.entity.Priority;
+import memoapp.event.MemoChangeEvent;
 import memoapp.exception.MemoNotFoundException;
 import memoapp.exception.MemoValidationException;
+import memoapp.exception.MemoVersionConflictException;
 import memoapp.repository.MemoRepository;
+import memoapp.repository.MemoTombstoneRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -32,28 +48,50 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class MemoService {
     
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 200;
+    static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    
     private final MemoRepository memoRepository;
+    private final MemoTombstoneRepository tombstoneRepository;
+    private final PriorityStatisticsCache statisticsCache;
+    private final MemoCache memoCache;
+    private final MemoProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Constructor injection following Dependency Inversion Principle.
      * Makes dependencies explicit and enables better testing.
      * 
      * @param memoRepository the repository for memo data access operations
+     * @param tombstoneRepository the repository recording deleted memo IDs for delta sync
+     * @param statisticsCache the in-process cache of per-priority memo counts
+     * @param memoCache the read-through cache for memo lookups by ID
+     * @param properties application settings such as bulk operation limits
+     * @param eventPublisher publisher for {@link MemoChangeEvent}s emitted by mutating operations
      */
-    public MemoService(MemoRepository memoRepository) {
+    public MemoService(MemoRepository memoRepository, MemoTombstoneRepository tombstoneRepository,
+                       PriorityStatisticsCache statisticsCache, MemoCache memoCache,
+                       MemoProperties properties, ApplicationEventPublisher eventPublisher) {
         this.memoRepository = memoRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.statisticsCache = statisticsCache;
+        this.memoCache = memoCache;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
     }
     
     /**
-     * Retrieves all memos from the system.
+     * Retrieves summaries of all memos from the system.
      * 
      * This method follows the Single Responsibility Principle by having
-     * a single, well-defined purpose: fetching all memos.
+     * a single, well-defined purpose: fetching all memos for a list view.
+     * Only a content preview is loaded; use {@link #getMemoById} for the full memo.
      * 
-     * @return List of all memos, never null (may be empty)
+     * @return List of all memo summaries in ID order, never null (may be empty)
      */
-    public List<Memo> getAllMemos() {
-        return memoRepository.findAll();
+    public List<MemoSummary> getAllMemos() {
+        return memoRepository.findAllSummaries();
     }
     
     /**
@@ -63,6 +101,10 @@ public class MemoService {
      * Throws a meaningful exception instead of returning null, following
      * the principle of "fail fast" and providing clear error information.
      * 
+     * Served through {@link MemoCache}, so the returned memo is a detached
+     * copy; modifying it has no effect on the database or the cache. Cache
+     * misses read the memo and its lazily loaded content in one statement.
+     * 
      * @param id the unique identifier of the memo to retrieve
      * @return the memo with the specified ID
      * @throws MemoNotFoundException if no memo exists with the given ID
@@ -71,8 +113,11 @@ public class MemoService {
     public Memo getMemoById(Long id) {
         validateMemoId(id);
         
-        return memoRepository.findById(id)
-                .orElseThrow(() -> new MemoNotFoundException(id));
+        Memo memo = memoCache.get(id, key -> memoRepository.findWithContentById(key).orElse(null));
+        if (memo == null) {
+            throw new MemoNotFoundException(id);
+        }
+        return memo;
     }
     
     /**
@@ -95,7 +140,45 @@ public class MemoService {
             memo.setId(null);
         }
         
-        return memoRepository.save(memo);
+        Memo savedMemo = memoRepository.save(memo);
+        statisticsCache.recordCreated(savedMemo.getPriority());
+        eventPublisher.publishEvent(MemoChangeEvent.created(savedMemo));
+        return savedMemo;
+    }
+    
+    /**
+     * Creates many memos in a single transaction.
+     * 
+     * All memos are validated before anything is written. IDs come from the
+     * pooled sequence and inserts are grouped into JDBC batches, so the number
+     * of statements grows with the batch count rather than the memo count.
+     * 
+     * @param memos the memos to create
+     * @return the created memos with generated IDs and timestamps
+     * @throws MemoValidationException if the list or any memo is invalid
+     */
+    @Transactional
+    public List<Memo> createMemos(List<Memo> memos) {
+        if (memos == null || memos.isEmpty()) {
+            throw new MemoValidationException("Memos cannot be empty");
+        }
+        
+        int maxSize = properties.getBulk().getMaxSize();
+        if (memos.size() > maxSize) {
+            throw new MemoValidationException("Cannot create more than " + maxSize + " memos at once");
+        }
+        
+        for (Memo memo : memos) {
+            validateMemoForCreation(memo);
+            memo.setId(null);
+        }
+        
+        List<Memo> savedMemos = memoRepository.saveAll(memos);
+        for (Memo savedMemo : savedMemos) {
+            statisticsCache.recordCreated(savedMemo.getPriority());
+            eventPublisher.publishEvent(MemoChangeEvent.created(savedMemo));
+        }
+        return savedMemos;
     }
     
     /**
@@ -112,18 +195,55 @@ public class MemoService {
      */
     @Transactional
     public Memo updateMemo(Long id, Memo updatedMemo) {
+        return updateMemo(id, updatedMemo, null);
+    }
+    
+    /**
+     * Updates an existing memo if it still has the expected version.
+     * 
+     * The version check is repeated by the UPDATE statement itself
+     * ({@code WHERE id = ? AND version = ?}), so a concurrent change between
+     * loading and writing the memo is detected as well. The change is
+     * flushed before returning, so the returned memo carries its new version.
+     * 
+     * @param id the ID of the memo to update
+     * @param updatedMemo the memo data to update with
+     * @param expectedVersion version the memo must have, or null to update unconditionally
+     * @return the updated memo
+     * @throws MemoNotFoundException if no memo exists with the given ID
+     * @throws MemoValidationException if the update data is invalid
+     * @throws MemoVersionConflictException if the memo's version differs from the expected one
+     */
+    @Transactional
+    public Memo updateMemo(Long id, Memo updatedMemo, Long expectedVersion) {
         validateMemoId(id);
         validateMemoForUpdate(updatedMemo);
         
         // Verify the memo exists before updating
-        Memo existingMemo = getMemoById(id);
+        Memo existingMemo = findManagedMemo(id);
+        if (expectedVersion != null && existingMemo.getVersion() != expectedVersion) {
+            throw new MemoVersionConflictException(id, expectedVersion);
+        }
+        
+        Priority previousPriority = existingMemo.getPriority();
         
         // Update the fields while preserving the original ID and created timestamp
         existingMemo.setTitle(updatedMemo.getTitle());
         existingMemo.setContent(updatedMemo.getContent());
         existingMemo.setPriority(updatedMemo.getPriority());
         
-        return memoRepository.save(existingMemo);
+        Memo savedMemo;
+        try {
+            savedMemo = memoRepository.saveAndFlush(existingMemo);
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersion == null) {
+                throw e;
+            }
+            throw new MemoVersionConflictException(id, expectedVersion);
+        }
+        statisticsCache.recordPriorityChanged(previousPriority, savedMemo.getPriority());
+        eventPublisher.publishEvent(MemoChangeEvent.updated(savedMemo));
+        return savedMemo;
     }
     
     /**
@@ -140,13 +260,15 @@ public class MemoService {
     public void deleteMemo(Long id) {
         validateMemoId(id);
         
-        // Verify the memo exists before attempting deletion
-        // This provides better error handling and user feedback
-        if (!memoRepository.existsById(id)) {
-            throw new MemoNotFoundException(id);
-        }
+        // Load the memo before deletion: this verifies it exists and provides
+        // its priority for the cached statistics
+        Memo existingMemo = findManagedMemo(id);
         
-        memoRepository.deleteById(id);
+        memoRepository.delete(existingMemo);
+        // Lets delta sync clients learn about the deletion
+        tombstoneRepository.save(new MemoTombstone(id, LocalDateTime.now()));
+        statisticsCache.recordDeleted(existingMemo.getPriority());
+        eventPublisher.publishEvent(MemoChangeEvent.deleted(existingMemo));
     }
     
     /**
@@ -168,10 +290,10 @@ public class MemoService {
      * Retrieves all memos filtered by priority levels.
      * 
      * @param priorities list of priorities to filter by
-     * @return list of memos with specified priorities
+     * @return summaries of the memos with specified priorities
      * @throws MemoValidationException if priorities list is invalid
      */
-    public List<Memo> getMemosByPriority(List<Priority> priorities) {
+    public List<MemoSummary> getMemosByPriority(List<Priority> priorities) {
         if (priorities == null || priorities.isEmpty()) {
             return getAllMemos();
         }
@@ -193,9 +315,9 @@ public class MemoService {
      * Retrieves all memos sorted by priority.
      * 
      * @param sortOrder "priority_desc" or "priority_asc"
-     * @return list of memos sorted by priority
+     * @return summaries of all memos sorted by priority
      */
-    public List<Memo> getMemosSortedByPriority(String sortOrder) {
+    public List<MemoSummary> getMemosSortedByPriority(String sortOrder) {
         if (sortOrder == null || sortOrder.isEmpty()) {
             return getAllMemos();
         }
@@ -210,38 +332,196 @@ public class MemoService {
         }
     }
     
+    /**
+     * Retrieves one keyset-paginated page of memos.
+     * 
+     * Pages are ordered by priority (direction given by {@code sortOrder}),
+     * then newest first, with the memo ID as a unique tie-breaker. The cursor
+     * encodes the position of the last row of the previous page, so every page
+     * is a bounded range read regardless of how deep the client has scrolled.
+     * 
+     * @param priorities priorities to filter by, or null/empty for all
+     * @param sortOrder "priority_desc" (default) or "priority_asc"
+     * @param cursor opaque cursor from the previous page, or null for the first page
+     * @param size requested page size, or null for the default
+     * @return the page of memo summaries together with the cursor for the next page
+     * @throws MemoValidationException if the sort order, cursor or size is invalid
+     */
+    public MemoPage<MemoSummary> getMemoPage(List<Priority> priorities, String sortOrder, String cursor, Integer size) {
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new MemoValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE, "size", size);
+        }
+        
+        List<Priority> filter = priorities == null ? List.of() : priorities.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (filter.isEmpty()) {
+            filter = Arrays.asList(Priority.values());
+        }
+        
+        boolean ascending = isAscendingPrioritySort(sortOrder);
+        // Without a cursor, start from a rank outside the Priority range so the
+        // keyset predicate matches every row; createdAt/id are then never compared
+        MemoCursor position = cursor != null && !cursor.isEmpty()
+                ? MemoCursor.decode(cursor)
+                : new MemoCursor(ascending ? -1 : Integer.MAX_VALUE, LocalDateTime.of(1970, 1, 1, 0, 0), Long.MAX_VALUE);
+        
+        // Fetch one extra row to find out whether another page follows
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<MemoSummary> rows = ascending
+                ? memoRepository.findPageOrderByPriorityAsc(filter, position.getRank(), position.getCreatedAt(), position.getId(), limit)
+                : memoRepository.findPageOrderByPriorityDesc(filter, position.getRank(), position.getCreatedAt(), position.getId(), limit);
+        
+        if (rows.size() <= pageSize) {
+            return new MemoPage<>(rows, null);
+        }
+        
+        List<MemoSummary> items = new ArrayList<>(rows.subList(0, pageSize));
+        return new MemoPage<>(items, MemoCursor.after(items.get(pageSize - 1)).encode());
+    }
+    
+    /**
+     * Searches memo titles and contents, most relevant first.
+     * 
+     * Matching runs against the GIN-indexed full-text column, but every
+     * match is ranked and sorted before the page limit applies, so that part
+     * of the cost grows with the number of matches. Only loading the memos
+     * is per page: just the IDs of one page are loaded by primary key.
+     * Pages are keyset-paginated on (rank, id).
+     * 
+     * @param query the search text (web-search syntax)
+     * @param cursor opaque cursor from the previous page, or null for the first page
+     * @param size requested page size, or null for the default
+     * @return the page of matching memo summaries together with the cursor for the next page
+     * @throws MemoValidationException if the query, cursor or size is invalid
+     */
+    public MemoPage<MemoSummary> searchMemos(String query, String cursor, Integer size) {
+        if (!StringUtils.hasText(query)) {
+            throw new MemoValidationException("Search query cannot be empty", "q", query);
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new MemoValidationException("Search query cannot exceed " + MAX_SEARCH_QUERY_LENGTH + " characters", "q", query);
+        }
+        
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new MemoValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE, "size", size);
+        }
+        
+        SearchCursor position = cursor != null && !cursor.isEmpty() ? SearchCursor.decode(cursor) : SearchCursor.FIRST;
+        
+        // Fetch one extra hit to find out whether another page follows
+        List<MemoSearchHit> hits = memoRepository.searchByText(query.trim(), position.getRank(), position.getId(), pageSize + 1);
+        boolean hasNext = hits.size() > pageSize;
+        if (hasNext) {
+            hits = hits.subList(0, pageSize);
+        }
+        
+        List<Long> ids = hits.stream().map(MemoSearchHit::getId).collect(Collectors.toList());
+        Map<Long, MemoSummary> memosById = memoRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(MemoSummary::getId, memo -> memo));
+        
+        // Keep relevance order; skip memos deleted between the two queries
+        List<MemoSummary> items = ids.stream()
+                .map(memosById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        
+        String nextCursor = null;
+        if (hasNext) {
+            MemoSearchHit last = hits.get(hits.size() - 1);
+            nextCursor = new SearchCursor(last.getRank(), last.getId()).encode();
+        }
+        return new MemoPage<>(items, nextCursor);
+    }
+    
     /**
      * Updates the priority of a specific memo.
      * 
+     * The memo's content is lazily loaded and never touched here, so neither
+     * the load nor the UPDATE reads or writes the content column.
+     * 
+     * @param id memo ID to update
+     * @param priority new priority value
+     * @return the memo's ID, new priority, update time and version
+     * @throws MemoNotFoundException if memo doesn't exist
+     * @throws MemoValidationException if priority is invalid
+     */
+    @Transactional
+    public PriorityUpdateResult updateMemoPriority(Long id, Priority priority) {
+        return updateMemoPriority(id, priority, null);
+    }
+    
+    /**
+     * Updates the priority of a specific memo if it still matches the ETag
+     * the client last saw.
+     * 
+     * With an expected ETag the memo is not loaded at all: a single
+     * {@code UPDATE ... WHERE id = ? AND version = ? AND priority = ?} both
+     * checks and applies the change. The ETag names the priority the memo
+     * had at that version, so the statistics are adjusted incrementally from
+     * it as for an unconditional update. Only a failed update costs a second
+     * statement to tell a missing memo from a stale ETag.
+     * 
+     * Without an expected ETag the memo is loaded and updated as an entity.
+     * 
      * @param id memo ID to update
      * @param priority new priority value
-     * @return updated memo
+     * @param expected version and priority the memo must have, or null to update unconditionally
+     * @return the memo's ID, new priority, update time and version
      * @throws MemoNotFoundException if memo doesn't exist
      * @throws MemoValidationException if priority is invalid
+     * @throws MemoVersionConflictException if the memo no longer has the expected version
      */
     @Transactional
-    public Memo updateMemoPriority(Long id, Priority priority) {
+    public PriorityUpdateResult updateMemoPriority(Long id, Priority priority, MemoChangeTracker.MemoETag expected) {
         validateMemoId(id);
         if (priority == null) {
             throw new MemoValidationException("Priority cannot be null", "priority", null);
         }
         
-        Memo existingMemo = getMemoById(id);
+        if (expected != null) {
+            LocalDateTime updatedAt = LocalDateTime.now();
+            if (memoRepository.updatePriorityByIdAndVersion(
+                    id, expected.version(), expected.priority(), priority, updatedAt) == 0) {
+                if (!memoRepository.existsById(id)) {
+                    throw new MemoNotFoundException(id);
+                }
+                throw new MemoVersionConflictException(id, expected.version());
+            }
+            statisticsCache.recordPriorityChanged(expected.priority(), priority);
+            eventPublisher.publishEvent(MemoChangeEvent.priorityChanged(id, priority, updatedAt, expected.version() + 1));
+            return new PriorityUpdateResult(id, priority, updatedAt, expected.version() + 1);
+        }
+        
+        Memo existingMemo = findManagedMemo(id);
+        Priority previousPriority = existingMemo.getPriority();
         existingMemo.setPriority(priority);
         
-        return memoRepository.save(existingMemo);
+        Memo savedMemo = memoRepository.saveAndFlush(existingMemo);
+        statisticsCache.recordPriorityChanged(previousPriority, priority);
+        eventPublisher.publishEvent(MemoChangeEvent.priorityChanged(
+                savedMemo.getId(), priority, savedMemo.getUpdatedAt(), savedMemo.getVersion()));
+        return new PriorityUpdateResult(savedMemo.getId(), priority, savedMemo.getUpdatedAt(), savedMemo.getVersion());
     }
     
     /**
      * Updates the priority of multiple memos in bulk.
      * 
+     * Uses set-based statements instead of per-memo round trips: the target
+     * rows are locked and their current priorities read in one query per
+     * chunk, then updated with one {@code UPDATE ... WHERE id IN (...)} per
+     * chunk. Chunk size and the request limit come from {@code memo.bulk.*}.
+     * 
      * @param request bulk update request containing memo IDs and new priority
-     * @return list of updated memos
+     * @return summary of the affected memos
      * @throws MemoValidationException if request is invalid
      * @throws MemoNotFoundException if any memo doesn't exist
      */
     @Transactional
-    public List<Memo> bulkUpdatePriority(BulkPriorityUpdateRequest request) {
+    public BulkPriorityUpdateResult bulkUpdatePriority(BulkPriorityUpdateRequest request) {
         if (request == null) {
             throw new MemoValidationException("Bulk update request cannot be null");
         }
@@ -253,55 +533,171 @@ public class MemoService {
             throw new MemoValidationException("Memo IDs cannot be empty");
         }
         
-        if (memoIds.size() > 100) {
-            throw new MemoValidationException("Cannot update more than 100 memos at once");
+        int maxSize = properties.getBulk().getMaxSize();
+        if (memoIds.size() > maxSize) {
+            throw new MemoValidationException("Cannot update more than " + maxSize + " memos at once");
         }
         
         if (priority == null) {
             throw new MemoValidationException("Priority cannot be null", "priority", null);
         }
         
-        // Validate all memo IDs and check existence
-        for (Long id : memoIds) {
-            validateMemoId(id);
-            if (!memoRepository.existsById(id)) {
-                throw new MemoNotFoundException(id);
+        memoIds.forEach(this::validateMemoId);
+        
+        // Sorted, de-duplicated IDs keep lock acquisition order deterministic
+        List<Long> ids = memoIds.stream().distinct().sorted().collect(Collectors.toList());
+        List<List<Long>> chunks = chunk(ids, properties.getBulk().getChunkSize());
+        
+        Map<Long, MemoPriorityView> lockedRows = new HashMap<>(ids.size() * 2);
+        for (List<Long> chunk : chunks) {
+            for (MemoPriorityView row : memoRepository.lockPrioritiesByIdIn(chunk)) {
+                lockedRows.put(row.getId(), row);
             }
         }
         
-        // Fetch all memos and update their priority
-        List<Memo> memos = memoRepository.findAllById(memoIds);
-        for (Memo memo : memos) {
-            memo.setPriority(priority);
+        if (lockedRows.size() != ids.size()) {
+            List<Long> missingIds = ids.stream()
+                    .filter(id -> !lockedRows.containsKey(id))
+                    .collect(Collectors.toList());
+            throw new MemoNotFoundException(String.format("Memos with ids %s not found", missingIds), missingIds.get(0));
         }
         
-        return memoRepository.saveAll(memos);
+        LocalDateTime updatedAt = LocalDateTime.now();
+        int updatedCount = 0;
+        for (List<Long> chunk : chunks) {
+            updatedCount += memoRepository.updatePriorityByIdIn(chunk, priority, updatedAt);
+        }
+        
+        lockedRows.values().forEach(previous -> statisticsCache.recordPriorityChanged(previous.getPriority(), priority));
+        for (Long id : ids) {
+            // The UPDATE increments the version of each locked row by one
+            long version = lockedRows.get(id).getVersion() + 1;
+            eventPublisher.publishEvent(MemoChangeEvent.priorityChanged(id, priority, updatedAt, version));
+        }
+        
+        return new BulkPriorityUpdateResult(ids, priority, updatedCount, updatedAt);
     }
     
     /**
-     * Retrieves priority statistics for all memos.
+     * Applies a batch of priority changes, possibly to different priorities,
+     * in one transaction.
      * 
-     * @return statistics object containing priority counts and analysis
+     * Used by {@link PriorityWriteBuffer} to flush coalesced changes. Like
+     * {@link #bulkUpdatePriority}, the rows are locked in ID order with one
+     * query per chunk and then updated with one statement per chunk and
+     * target priority. Unlike it, memos deleted since their change was
+     * accepted are skipped rather than failing the whole batch.
+     * 
+     * @param changes new priority per memo ID
+     * @return number of memos updated
      */
-    public PriorityStatistics getPriorityStatistics() {
-        Map<Priority, Long> priorityCounts = new HashMap<>();
+    @Transactional
+    public int applyPriorityChanges(Map<Long, Priority> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
         
-        // Count memos for each priority level
-        for (Priority priority : Priority.values()) {
-            long count = memoRepository.countByPriority(priority);
-            priorityCounts.put(priority, count);
+        List<Long> ids = changes.keySet().stream().sorted().collect(Collectors.toList());
+        int chunkSize = properties.getBulk().getChunkSize();
+        
+        Map<Long, MemoPriorityView> lockedRows = new HashMap<>(ids.size() * 2);
+        for (List<Long> chunk : chunk(ids, chunkSize)) {
+            for (MemoPriorityView row : memoRepository.lockPrioritiesByIdIn(chunk)) {
+                lockedRows.put(row.getId(), row);
+            }
         }
         
-        long totalMemos = memoRepository.count();
+        Map<Priority, List<Long>> idsByPriority = new EnumMap<>(Priority.class);
+        for (Long id : ids) {
+            if (lockedRows.containsKey(id)) {
+                idsByPriority.computeIfAbsent(changes.get(id), key -> new ArrayList<>()).add(id);
+            }
+        }
         
-        // Find most common priority
-        Priority mostCommonPriority = priorityCounts.entrySet().stream()
-                .filter(entry -> entry.getValue() > 0)
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(Priority.NONE);
+        LocalDateTime updatedAt = LocalDateTime.now();
+        int updatedCount = 0;
+        for (Map.Entry<Priority, List<Long>> group : idsByPriority.entrySet()) {
+            Priority priority = group.getKey();
+            for (List<Long> chunk : chunk(group.getValue(), chunkSize)) {
+                updatedCount += memoRepository.updatePriorityByIdIn(chunk, priority, updatedAt);
+            }
+            for (Long id : group.getValue()) {
+                MemoPriorityView previous = lockedRows.get(id);
+                statisticsCache.recordPriorityChanged(previous.getPriority(), priority);
+                eventPublisher.publishEvent(MemoChangeEvent.priorityChanged(id, priority, updatedAt, previous.getVersion() + 1));
+            }
+        }
         
-        return new PriorityStatistics(priorityCounts, totalMemos, mostCommonPriority);
+        return updatedCount;
+    }
+    
+    /**
+     * Retrieves priority statistics for all memos.
+     * 
+     * Served from the in-process {@link PriorityStatisticsCache}, so this is
+     * a memory read rather than a set of count queries.
+     * 
+     * @return statistics object containing priority counts and analysis
+     */
+    public PriorityStatistics getPriorityStatistics() {
+        return statisticsCache.getStatistics();
+    }
+    
+    /**
+     * Retrieves hit, miss and eviction counters of the memo lookup cache.
+     * 
+     * @return cache statistics since application start
+     */
+    public MemoCacheStatistics getCacheStatistics() {
+        return memoCache.getStatistics();
+    }
+    
+    /**
+     * Resolves the priority direction of a paginated listing.
+     * 
+     * @param sortOrder "priority_desc", "priority_asc", or null/empty for the default
+     * @return true when memos should be ordered from low to high priority
+     * @throws MemoValidationException if the sort order is unknown
+     */
+    private boolean isAscendingPrioritySort(String sortOrder) {
+        if (sortOrder == null || sortOrder.isEmpty()) {
+            return false;
+        }
+        
+        switch (sortOrder.toLowerCase()) {
+            case "priority_desc":
+                return false;
+            case "priority_asc":
+                return true;
+            default:
+                throw new MemoValidationException("Invalid sort order. Use 'priority_desc' or 'priority_asc'", "sort", sortOrder);
+        }
+    }
+    
+    /**
+     * Splits a list into consecutive sublists of at most {@code size} elements.
+     * 
+     * @param items the list to split
+     * @param size maximum chunk size
+     * @return list of chunk views over {@code items}
+     */
+    private static <T> List<List<T>> chunk(List<T> items, int size) {
+        int chunkSize = Math.max(1, size);
+        List<List<T>> chunks = new ArrayList<>((items.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + chunkSize)));
+        }
+        return chunks;
+    }
+    
+    /**
+     * Loads the managed entity for a write, bypassing {@link MemoCache}:
+     * writes must modify the persistent instance, not a cached copy. The
+     * cache entry is invalidated after the write commits.
+     */
+    private Memo findManagedMemo(Long id) {
+        return memoRepository.findById(id)
+                .orElseThrow(() -> new MemoNotFoundException(id));
     }
     
     /**
@@ -0,0 +1,151 @@
+package memoapp.service;
+
+import memoapp.config.MemoProperties;
+import memoapp.dto.MemoChanges;
+import memoapp.entity.Memo;
+import memoapp.entity.MemoTombstone;
+import memoapp.exception.MemoValidationException;
+import memoapp.repository.MemoRepository;
+import memoapp.repository.MemoTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service for incremental (delta) synchronization of memos.
+ * 
+ * Changed memos are found through the (updated_at, id) index and deleted
+ * memos through tombstones written by {@link MemoService#deleteMemo}, so a
+ * client that was offline for an hour only transfers what changed in that hour.
+ * 
+ * Timestamps are assigned when a change is made, not when it commits, so a
+ * slow transaction can become visible with a timestamp older than a cursor
+ * already handed out. Cursors are therefore never advanced past
+ * "now minus {@code memo.sync.overlap}"; the last few seconds of changes are
+ * delivered again on the next request.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MemoSyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(MemoSyncService.class);
+    
+    static final int DEFAULT_SYNC_LIMIT = 500;
+    static final int MAX_SYNC_LIMIT = 5000;
+    
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    
+    private final MemoRepository memoRepository;
+    private final MemoTombstoneRepository tombstoneRepository;
+    private final MemoProperties.Sync settings;
+    
+    public MemoSyncService(MemoRepository memoRepository, MemoTombstoneRepository tombstoneRepository,
+                           MemoProperties properties) {
+        this.memoRepository = memoRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.settings = properties.getSync();
+    }
+    
+    /**
+     * Returns memos changed and deleted after the client's position.
+     * 
+     * Without {@code since} or {@code cursor} this starts an initial sync that
+     * pages through every memo; no tombstones are needed for that.
+     * 
+     * @param since point in time to sync from, for clients without a cursor
+     * @param cursor cursor returned by the previous sync; takes precedence over since
+     * @param limit maximum number of memos and of deleted IDs per response
+     * @return changes and the cursor for the next request
+     * @throws MemoValidationException if the limit or cursor is invalid
+     */
+    public MemoChanges getChanges(LocalDateTime since, String cursor, Integer limit) {
+        int pageSize = limit != null ? limit : DEFAULT_SYNC_LIMIT;
+        if (pageSize < 1 || pageSize > MAX_SYNC_LIMIT) {
+            throw new MemoValidationException("Limit must be between 1 and " + MAX_SYNC_LIMIT, "limit", limit);
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime safePoint = now.minus(settings.getOverlap());
+        
+        SyncCursor position;
+        if (cursor != null && !cursor.isEmpty()) {
+            position = SyncCursor.decode(cursor);
+        } else if (since != null) {
+            position = SyncCursor.since(since);
+        } else {
+            position = new SyncCursor(BEGINNING, 0, safePoint, 0);
+        }
+        
+        // Deletions older than the retention period may already be purged
+        if (position.getDeletedAt().isBefore(now.minus(settings.getTombstoneRetention()))) {
+            return new MemoChanges(List.of(), List.of(), null, false, true);
+        }
+        
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<Memo> memos = memoRepository.findChangedAfter(position.getUpdatedAt(), position.getMemoId(), page);
+        List<MemoTombstone> tombstones = tombstoneRepository.findDeletedAfter(
+                position.getDeletedAt(), position.getTombstoneId(), page);
+        
+        boolean moreMemos = memos.size() > pageSize;
+        boolean moreTombstones = tombstones.size() > pageSize;
+        if (moreMemos) {
+            memos = new ArrayList<>(memos.subList(0, pageSize));
+        }
+        if (moreTombstones) {
+            tombstones = tombstones.subList(0, pageSize);
+        }
+        
+        LocalDateTime nextUpdatedAt = position.getUpdatedAt();
+        long nextMemoId = position.getMemoId();
+        if (!memos.isEmpty()) {
+            Memo last = memos.get(memos.size() - 1);
+            nextUpdatedAt = last.getUpdatedAt();
+            nextMemoId = last.getId();
+        }
+        LocalDateTime nextDeletedAt = position.getDeletedAt();
+        long nextTombstoneId = position.getTombstoneId();
+        if (!tombstones.isEmpty()) {
+            MemoTombstone last = tombstones.get(tombstones.size() - 1);
+            nextDeletedAt = last.getDeletedAt();
+            nextTombstoneId = last.getMemoId();
+        }
+        
+        // Hold back whichever side has caught up, so late commits are not skipped
+        if (!moreMemos && nextUpdatedAt.isAfter(safePoint)) {
+            nextUpdatedAt = safePoint;
+            nextMemoId = 0;
+        }
+        if (!moreTombstones && nextDeletedAt.isAfter(safePoint)) {
+            nextDeletedAt = safePoint;
+            nextTombstoneId = 0;
+        }
+        
+        List<Long> deletedIds = tombstones.stream().map(MemoTombstone::getMemoId).toList();
+        String nextCursor = new SyncCursor(nextUpdatedAt, nextMemoId, nextDeletedAt, nextTombstoneId).encode();
+        return new MemoChanges(memos, deletedIds, nextCursor, moreMemos || moreTombstones, false);
+    }
+    
+    /**
+     * Deletes tombstones older than the retention period.
+     * 
+     * @return number of tombstones removed
+     */
+    @Scheduled(fixedDelayString = "${memo.sync.purge-interval:PT1H}",
+               initialDelayString = "${memo.sync.purge-interval:PT1H}")
+    @Transactional
+    public int purgeTombstones() {
+        int purged = tombstoneRepository.deleteByDeletedAtBefore(
+                LocalDateTime.now().minus(settings.getTombstoneRetention()));
+        if (purged > 0) {
+            log.info("Purged {} memo tombstones", purged);
+        }
+        return purged;
+    }
+}
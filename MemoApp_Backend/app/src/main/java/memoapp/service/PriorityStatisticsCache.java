@@ -0,0 +1,212 @@
+package memoapp.service;
+
+import memoapp.dto.PriorityCount;
+import memoapp.dto.PriorityStatistics;
+import memoapp.entity.Priority;
+import memoapp.repository.MemoRepository;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process cache of memo counts per priority.
+ * 
+ * Counts are loaded with a single grouped query on first use and then kept
+ * current by incremental adjustments from {@link MemoService}. Adjustments
+ * are summed per transaction and applied only after it commits, so rolled
+ * back changes never leak into the statistics.
+ * 
+ * Because adjustments and reloads are not serialized against concurrent
+ * writers, the counts may drift briefly; a periodic reconciliation against
+ * the database bounds that drift. A reconciliation that corrects a count
+ * bumps the {@link MemoChangeTracker} version, so clients holding the old
+ * statistics ETag fetch the corrected counts.
+ */
+@Component
+public class PriorityStatisticsCache {
+    
+    /**
+     * Order of the after-commit adjustments among the transaction's
+     * synchronizations. They run before any transactional event listener,
+     * so listeners such as {@link MemoChangeTracker} see adjusted counts.
+     */
+    public static final int ADJUSTMENT_ORDER = Ordered.HIGHEST_PRECEDENCE;
+    
+    private final MemoRepository memoRepository;
+    private final MemoChangeTracker changeTracker;
+    private final AtomicLongArray counts = new AtomicLongArray(Priority.values().length);
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    private volatile boolean loaded;
+    
+    public PriorityStatisticsCache(MemoRepository memoRepository, MemoChangeTracker changeTracker) {
+        this.memoRepository = memoRepository;
+        this.changeTracker = changeTracker;
+    }
+    
+    /**
+     * Returns the current statistics, loading them from the database on first use.
+     * 
+     * @return statistics object containing priority counts and analysis
+     */
+    public PriorityStatistics getStatistics() {
+        if (!loaded) {
+            reconcile();
+        }
+        
+        Map<Priority, Long> priorityCounts = new EnumMap<>(Priority.class);
+        long totalMemos = 0;
+        for (Priority priority : Priority.values()) {
+            long count = Math.max(0, counts.get(priority.ordinal()));
+            priorityCounts.put(priority, count);
+            totalMemos += count;
+        }
+        
+        // Find most common priority
+        Priority mostCommonPriority = priorityCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(Priority.NONE);
+        
+        return new PriorityStatistics(priorityCounts, totalMemos, mostCommonPriority);
+    }
+    
+    /**
+     * Records a newly created memo once the current transaction commits.
+     * 
+     * @param priority priority of the created memo
+     */
+    public void recordCreated(Priority priority) {
+        record(priority, 1);
+    }
+    
+    /**
+     * Records a deleted memo once the current transaction commits.
+     * 
+     * @param priority priority the memo had when it was deleted
+     */
+    public void recordDeleted(Priority priority) {
+        record(priority, -1);
+    }
+    
+    /**
+     * Records a priority change once the current transaction commits.
+     * 
+     * @param from previous priority of the memo
+     * @param to new priority of the memo
+     */
+    public void recordPriorityChanged(Priority from, Priority to) {
+        if (from == to) {
+            return;
+        }
+        record(from, -1);
+        record(to, 1);
+    }
+    
+    /**
+     * Reloads all counts from the database with one grouped query.
+     * 
+     * Runs periodically to correct any drift between the cached counts and
+     * the table, e.g. from writes made outside this application instance.
+     */
+    @Scheduled(fixedDelayString = "${memo.stats.reconcile-interval:PT5M}",
+               initialDelayString = "${memo.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        // A lock rather than synchronized: a virtual thread blocked on the
+        // query inside a synchronized block would pin its carrier thread
+        reconcileLock.lock();
+        try {
+            long[] fresh = new long[Priority.values().length];
+            List<PriorityCount> grouped = memoRepository.countGroupByPriority();
+            for (PriorityCount row : grouped) {
+                fresh[row.getPriority().ordinal()] = row.getMemoCount();
+            }
+            
+            boolean corrected = false;
+            for (int i = 0; i < fresh.length; i++) {
+                corrected |= counts.getAndSet(i, fresh[i]) != fresh[i];
+            }
+            if (corrected && loaded) {
+                // Counts served before were wrong; invalidate their ETag
+                changeTracker.markChanged();
+            }
+            loaded = true;
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+    
+    /**
+     * Adds an adjustment to the current transaction's pending deltas, or
+     * applies it immediately without a transaction.
+     * 
+     * A transaction registers a single synchronization however many memos
+     * it changes, and applies the summed deltas per priority after commit.
+     */
+    private void record(Priority priority, long delta) {
+        if (!loaded) {
+            // Nothing cached yet; the first read loads fresh counts
+            return;
+        }
+        
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counts.addAndGet(priority.ordinal(), delta);
+            return;
+        }
+        
+        PendingAdjustments pending = (PendingAdjustments) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingAdjustments();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.deltas[priority.ordinal()] += delta;
+    }
+    
+    /**
+     * Count deltas per priority ordinal recorded by one transaction, bound to
+     * it as a resource so later records find them.
+     */
+    private final class PendingAdjustments implements TransactionSynchronization {
+        
+        final long[] deltas = new long[Priority.values().length];
+        
+        @Override
+        public void suspend() {
+            // An inner REQUIRES_NEW transaction gets its own deltas
+            TransactionSynchronizationManager.unbindResource(PriorityStatisticsCache.this);
+        }
+        
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(PriorityStatisticsCache.this, this);
+        }
+        
+        @Override
+        public void afterCommit() {
+            for (int i = 0; i < deltas.length; i++) {
+                if (deltas[i] != 0) {
+                    counts.addAndGet(i, deltas[i]);
+                }
+            }
+        }
+        
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PriorityStatisticsCache.this);
+        }
+        
+        @Override
+        public int getOrder() {
+            return ADJUSTMENT_ORDER;
+        }
+    }
+}
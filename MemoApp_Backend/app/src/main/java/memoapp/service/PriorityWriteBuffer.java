@@ -0,0 +1,218 @@
+package memoapp.service;
+
+import memoapp.config.MemoProperties;
+import memoapp.entity.Priority;
+import memoapp.exception.MemoValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Write-behind buffer for single-memo priority changes.
+ * 
+ * Accepted changes are held in memory, keyed by memo ID, so repeated changes
+ * to the same memo collapse into the latest one. A single background thread
+ * writes them through {@link MemoService#applyPriorityChanges} every
+ * {@code memo.write-behind.flush-interval}, or as soon as
+ * {@code memo.write-behind.max-batch-size} memos are pending, in
+ * transactions of at most that many memos.
+ * 
+ * An accepted change is not durable: it is lost if the process dies before
+ * the next flush, and reads do not see it until then. On an orderly shutdown
+ * the buffer is flushed after the web server has stopped taking requests.
+ * A failed flush keeps its changes and retries them on the next run; changes
+ * to memos deleted in the meantime are dropped. When
+ * {@code memo.write-behind.capacity} memos are pending, new changes are
+ * refused and the caller writes them synchronously instead.
+ * 
+ * Disabled by default; enable it with {@code memo.write-behind.enabled=true}.
+ * Each instance buffers only its own requests, so with several instances
+ * the last flush, not the last request, wins.
+ */
+@Component
+@ConditionalOnProperty(prefix = "memo.write-behind", name = "enabled", havingValue = "true")
+public class PriorityWriteBuffer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PriorityWriteBuffer.class);
+    
+    // Below the web server's graceful shutdown phase, so requests stop arriving before the final flush
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    
+    private final MemoService memoService;
+    private final MemoProperties.WriteBehind settings;
+    private final Map<Long, Priority> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private volatile ScheduledExecutorService flusher;
+    private volatile boolean running;
+    
+    public PriorityWriteBuffer(MemoService memoService, MemoProperties properties) {
+        this.memoService = memoService;
+        this.settings = properties.getWriteBehind();
+    }
+    
+    /**
+     * Accepts a priority change for a later batched write.
+     * 
+     * The memo's existence is not checked; a change to a missing memo is
+     * dropped when it is flushed.
+     * 
+     * @param id memo ID to update
+     * @param priority new priority value
+     * @return true if the change was buffered, false if the buffer is full
+     *         or not running and the caller must write the change itself
+     * @throws MemoValidationException if the ID or priority is invalid
+     */
+    public boolean submit(Long id, Priority priority) {
+        if (id == null || id <= 0) {
+            throw new MemoValidationException("Memo ID must be a positive number", "id", id);
+        }
+        if (priority == null) {
+            throw new MemoValidationException("Priority cannot be null", "priority", null);
+        }
+        if (!running) {
+            return false;
+        }
+        
+        // Checked without a lock, so concurrent submits may overshoot the capacity slightly
+        if (pending.size() >= settings.getCapacity() && !pending.containsKey(id)) {
+            requestFlush();
+            return false;
+        }
+        
+        pending.put(id, priority);
+        if (pending.size() >= settings.getMaxBatchSize()) {
+            requestFlush();
+        }
+        return true;
+    }
+    
+    /**
+     * Returns the number of memos with a change that has not been written yet.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+    
+    /**
+     * Writes all pending changes in batches of at most
+     * {@code memo.write-behind.max-batch-size} memos.
+     * 
+     * Changes made to a memo while its batch is written stay pending. If a
+     * batch fails, it and all later batches stay pending for the next flush.
+     * 
+     * @return number of memos updated
+     */
+    public int flush() {
+        flushScheduled.set(false);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        
+        List<Map<Long, Priority>> batches = new ArrayList<>();
+        Map<Long, Priority> batch = new HashMap<>();
+        for (Map.Entry<Long, Priority> change : pending.entrySet()) {
+            batch.put(change.getKey(), change.getValue());
+            if (batch.size() >= settings.getMaxBatchSize()) {
+                batches.add(batch);
+                batch = new HashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        
+        int updated = 0;
+        for (Map<Long, Priority> changes : batches) {
+            try {
+                updated += memoService.applyPriorityChanges(changes);
+            } catch (RuntimeException e) {
+                log.warn("Could not write {} buffered priority changes; {} remain pending",
+                        changes.size(), pending.size(), e);
+                return updated;
+            }
+            // Only remove what was written; a newer change to the same memo stays pending
+            changes.forEach(pending::remove);
+        }
+        return updated;
+    }
+    
+    @Override
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "memo-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = settings.getFlushInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+        flusher = executor;
+        running = true;
+    }
+    
+    /**
+     * Stops accepting changes and writes everything still pending.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        ScheduledExecutorService executor = flusher;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    log.warn("Timed out waiting for the running write-behind flush");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("Discarding {} buffered priority changes that could not be written on shutdown", pending.size());
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+    
+    private void requestFlush() {
+        ScheduledExecutorService executor = flusher;
+        if (executor != null && flushScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::flushSafely);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; stop() flushes
+            }
+        }
+    }
+    
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // An exception would cancel the periodic flush
+            log.warn("Write-behind flush failed", e);
+        }
+    }
+}
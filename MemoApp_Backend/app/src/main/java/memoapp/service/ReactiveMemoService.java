@@ -0,0 +1,139 @@
+package memoapp.service;
+
+import memoapp.dto.MemoSummary;
+import memoapp.dto.PriorityCount;
+import memoapp.dto.PriorityStatistics;
+import memoapp.entity.Memo;
+import memoapp.entity.Priority;
+import memoapp.exception.MemoNotFoundException;
+import memoapp.exception.MemoValidationException;
+import memoapp.repository.ReactiveMemoRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Read-only memo service for the reactive profile.
+ * 
+ * Applies the same validation and filter/sort rules as {@link MemoService},
+ * but returns publishers backed by {@link ReactiveMemoRepository}, so results
+ * stream to the client as rows arrive and no request thread ever blocks on
+ * the database. Errors are signalled through the publishers with the same
+ * exception types, so clients see identical error responses on both stacks.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveMemoService {
+
+    private final ReactiveMemoRepository memoRepository;
+    
+    public ReactiveMemoService(ReactiveMemoRepository memoRepository) {
+        this.memoRepository = memoRepository;
+    }
+    
+    /**
+     * Retrieves summaries of all memos in ID order.
+     * 
+     * @return all memo summaries
+     */
+    public Flux<MemoSummary> getAllMemos() {
+        return memoRepository.findAllSummaries();
+    }
+    
+    /**
+     * Retrieves a memo by its ID.
+     * 
+     * @param id the memo ID
+     * @return the memo, or an error if the ID is invalid or unknown
+     */
+    public Mono<Memo> getMemoById(Long id) {
+        if (id == null) {
+            return Mono.error(new MemoValidationException("Memo ID cannot be null", "id", id));
+        }
+        if (id <= 0) {
+            return Mono.error(new MemoValidationException("Memo ID must be a positive number", "id", id));
+        }
+        return memoRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new MemoNotFoundException(id)));
+    }
+    
+    /**
+     * Retrieves all memos filtered by priority levels, highest priority first.
+     * 
+     * @param priorities list of priorities to filter by; null or empty means all memos
+     * @return summaries of the memos with the specified priorities
+     */
+    public Flux<MemoSummary> getMemosByPriority(List<Priority> priorities) {
+        if (priorities == null || priorities.isEmpty()) {
+            return getAllMemos();
+        }
+        
+        List<Priority> validPriorities = priorities.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        
+        if (validPriorities.isEmpty()) {
+            return Flux.error(new MemoValidationException("At least one valid priority must be specified"));
+        }
+        
+        return memoRepository.findByPrioritiesOrderByPriorityDescCreatedAtDesc(validPriorities);
+    }
+    
+    /**
+     * Retrieves all memos sorted by priority.
+     * 
+     * @param sortOrder "priority_desc" or "priority_asc"; null or empty means ID order
+     * @return memo summaries sorted by priority, newest first within a priority
+     */
+    public Flux<MemoSummary> getMemosSortedByPriority(String sortOrder) {
+        if (sortOrder == null || sortOrder.isEmpty()) {
+            return getAllMemos();
+        }
+        
+        switch (sortOrder.toLowerCase()) {
+            case "priority_desc":
+                return memoRepository.findAllOrderByPriorityDescCreatedAtDesc();
+            case "priority_asc":
+                return memoRepository.findAllOrderByPriorityAscCreatedAtDesc();
+            default:
+                return Flux.error(new MemoValidationException(
+                        "Invalid sort order. Use 'priority_desc' or 'priority_asc'", "sort", sortOrder));
+        }
+    }
+    
+    /**
+     * Computes priority statistics with one grouped count query.
+     * 
+     * @return statistics object containing priority counts and analysis
+     */
+    public Mono<PriorityStatistics> getPriorityStatistics() {
+        return memoRepository.countGroupByPriority()
+                .collectMap(PriorityCount::getPriority, PriorityCount::getMemoCount)
+                .map(ReactiveMemoService::toStatistics);
+    }
+    
+    private static PriorityStatistics toStatistics(Map<Priority, Long> grouped) {
+        Map<Priority, Long> priorityCounts = new EnumMap<>(Priority.class);
+        long totalMemos = 0;
+        for (Priority priority : Priority.values()) {
+            long count = grouped.getOrDefault(priority, 0L);
+            priorityCounts.put(priority, count);
+            totalMemos += count;
+        }
+        
+        Priority mostCommonPriority = priorityCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(Priority.NONE);
+        
+        return new PriorityStatistics(priorityCounts, totalMemos, mostCommonPriority);
+    }
+}
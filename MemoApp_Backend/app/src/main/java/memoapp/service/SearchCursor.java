@@ -0,0 +1,69 @@
+package memoapp.service;
+
+import memoapp.exception.MemoValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position used by paginated full-text search.
+ * 
+ * Identifies the last hit of a page by its (relevance rank, id) pair,
+ * matching the ORDER BY of the search query. Encoded as URL-safe Base64
+ * so clients treat it as an opaque token.
+ */
+final class SearchCursor {
+    
+    private static final String SEPARATOR = "|";
+    
+    /**
+     * Position before the first hit: every rank is below this value.
+     */
+    static final SearchCursor FIRST = new SearchCursor(Float.MAX_VALUE, Long.MAX_VALUE);
+    
+    private final float rank;
+    private final long id;
+    
+    SearchCursor(float rank, long id) {
+        this.rank = rank;
+        this.id = id;
+    }
+    
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     * 
+     * @param token the opaque cursor string
+     * @return the decoded cursor
+     * @throws MemoValidationException if the token is malformed
+     */
+    static SearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 2) {
+                throw new MemoValidationException("Invalid search cursor", "cursor", token);
+            }
+            return new SearchCursor(Float.parseFloat(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new MemoValidationException("Invalid search cursor", "cursor", token);
+        }
+    }
+    
+    /**
+     * Encodes this cursor as an opaque, URL-safe token.
+     * 
+     * @return the encoded cursor
+     */
+    String encode() {
+        String raw = rank + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    float getRank() {
+        return rank;
+    }
+    
+    long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,86 @@
+package memoapp.service;
+
+import memoapp.exception.MemoValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of a delta sync client in the change history.
+ * 
+ * Tracks two keyset positions: the last (updatedAt, id) of changed memos and
+ * the last (deletedAt, memoId) of tombstones, matching the ORDER BY of the
+ * sync queries. Encoded as URL-safe Base64 so clients treat it as opaque.
+ */
+final class SyncCursor {
+    
+    private static final String SEPARATOR = "|";
+    
+    private final LocalDateTime updatedAt;
+    private final long memoId;
+    private final LocalDateTime deletedAt;
+    private final long tombstoneId;
+    
+    SyncCursor(LocalDateTime updatedAt, long memoId, LocalDateTime deletedAt, long tombstoneId) {
+        this.updatedAt = updatedAt;
+        this.memoId = memoId;
+        this.deletedAt = deletedAt;
+        this.tombstoneId = tombstoneId;
+    }
+    
+    /**
+     * Creates a cursor positioned at a point in time for both memos and tombstones.
+     */
+    static SyncCursor since(LocalDateTime since) {
+        return new SyncCursor(since, 0, since, 0);
+    }
+    
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     * 
+     * @param token the opaque cursor string
+     * @return the decoded cursor
+     * @throws MemoValidationException if the token is malformed
+     */
+    static SyncCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 4) {
+                throw new MemoValidationException("Invalid sync cursor", "cursor", token);
+            }
+            return new SyncCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new MemoValidationException("Invalid sync cursor", "cursor", token);
+        }
+    }
+    
+    /**
+     * Encodes this cursor as an opaque, URL-safe token.
+     * 
+     * @return the encoded cursor
+     */
+    String encode() {
+        String raw = updatedAt + SEPARATOR + memoId + SEPARATOR + deletedAt + SEPARATOR + tombstoneId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    long getMemoId() {
+        return memoId;
+    }
+    
+    LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+    
+    long getTombstoneId() {
+        return tombstoneId;
+    }
+}
@@ -0,0 +1,4 @@
+-- Optimistic lock version of each memo (Memo.version). Incremented by every
+-- update, including the set-based bulk and conditional priority updates.
+-- A constant default is a catalog-only change; the table is not rewritten.
+ALTER TABLE memos ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
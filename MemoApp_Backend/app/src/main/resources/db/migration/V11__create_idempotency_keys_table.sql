@@ -0,0 +1,13 @@
+-- Responses of requests sent with an Idempotency-Key header, replayed on retries.
+-- Only written when memo.idempotency.persistent is enabled; rows older than
+-- memo.idempotency.time-to-live are purged periodically.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(320) NOT NULL PRIMARY KEY,
+    request_hash    VARCHAR(64)  NOT NULL,
+    response_status INTEGER      NOT NULL,
+    response_body   TEXT,
+    created_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_created_at
+    ON idempotency_keys (created_at);
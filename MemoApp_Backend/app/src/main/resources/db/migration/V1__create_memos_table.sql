@@ -0,0 +1,11 @@
+-- Baseline schema, equivalent to what Hibernate ddl-auto produced before
+-- migrations were introduced. Existing databases are baselined at this
+-- version (spring.flyway.baseline-on-migrate) and skip this script.
+CREATE TABLE IF NOT EXISTS memos (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    content TEXT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    priority VARCHAR(255) NOT NULL DEFAULT 'NONE'
+);
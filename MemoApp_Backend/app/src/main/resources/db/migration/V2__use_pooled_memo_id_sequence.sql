@@ -0,0 +1,10 @@
+-- Memo IDs are allocated by Hibernate's pooled optimizer in blocks of 50.
+-- INCREMENT BY must match the entity's allocationSize.
+ALTER TABLE memos ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS memos_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE memos_seq INCREMENT BY 50 OWNED BY memos.id;
+
+-- The pooled optimizer treats each sequence value as the top of a block,
+-- so the next value must be at least max(id) + 50 to avoid reusing IDs.
+SELECT setval('memos_seq', (SELECT COALESCE(MAX(id), 0) FROM memos) + 50, false);
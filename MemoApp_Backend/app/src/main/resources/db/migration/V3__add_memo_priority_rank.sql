@@ -0,0 +1,11 @@
+-- Numeric copy of Priority.getOrder(), used for index-backed sorting.
+ALTER TABLE memos ADD COLUMN IF NOT EXISTS priority_rank INTEGER NOT NULL DEFAULT 0;
+
+UPDATE memos
+SET priority_rank = CASE priority
+        WHEN 'HIGH' THEN 3
+        WHEN 'MEDIUM' THEN 2
+        WHEN 'LOW' THEN 1
+        ELSE 0
+    END
+WHERE priority <> 'NONE';
@@ -0,0 +1,8 @@
+-- CREATE INDEX CONCURRENTLY cannot run inside a transaction block; Flyway
+-- detects this and runs the migration non-transactionally, so the table
+-- stays writable while the indexes are built.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_memos_rank_created_at_id
+    ON memos (priority_rank, created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_memos_rank_created_at_id_desc
+    ON memos (priority_rank, created_at DESC, id DESC);
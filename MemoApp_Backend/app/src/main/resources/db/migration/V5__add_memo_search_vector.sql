@@ -0,0 +1,9 @@
+-- Full-text search document over title (weight A) and content (weight B).
+-- The 'simple' configuration does no stemming or stop-word removal, so it
+-- behaves the same for every language memos are written in.
+-- Adding a stored generated column rewrites the table once.
+ALTER TABLE memos ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(content, '')), 'B')
+    ) STORED;
@@ -0,0 +1,3 @@
+-- Built concurrently so the table stays writable; see V4 for the rationale.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_memos_search_vector
+    ON memos USING GIN (search_vector);
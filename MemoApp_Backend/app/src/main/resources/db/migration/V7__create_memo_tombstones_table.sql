@@ -0,0 +1,9 @@
+-- Records deleted memo IDs so delta sync clients can remove them locally.
+-- Rows older than memo.sync.tombstone-retention are purged periodically.
+CREATE TABLE IF NOT EXISTS memo_tombstones (
+    memo_id    BIGINT    NOT NULL PRIMARY KEY,
+    deleted_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_memo_tombstones_deleted_at_memo_id
+    ON memo_tombstones (deleted_at, memo_id);
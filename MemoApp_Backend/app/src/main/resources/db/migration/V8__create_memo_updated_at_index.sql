@@ -0,0 +1,4 @@
+-- Serves delta sync (GET /api/memos/changes), which pages through memos
+-- ordered by (updated_at, id). Runs non-transactionally like V4.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_memos_updated_at_id
+    ON memos (updated_at, id);
@@ -0,0 +1,11 @@
+-- Compress memo content with LZ4 instead of pglz (PostgreSQL 14+): faster to
+-- compress and to decompress, including the prefix read by list previews.
+ALTER TABLE memos ALTER COLUMN content SET COMPRESSION lz4;
+
+-- Compress or move content out of line once a row exceeds 256 bytes instead
+-- of the default ~2 kB, so heap rows stay small. Priority updates then copy
+-- only the metadata and a TOAST pointer into the new row version.
+ALTER TABLE memos SET (toast_tuple_target = 256);
+
+-- Both settings apply to content written from now on; existing values keep
+-- their current storage until they are updated.
@@ -0,0 +1,129 @@
+package memoapp.controller;
+
+import memoapp.entity.Memo;
+import memoapp.entity.Priority;
+import memoapp.metrics.QueryCountHeaderAdvice;
+import memoapp.repository.MemoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the number of JDBC statements each MemoController endpoint issues,
+ * using the X-Query-Count header added by {@link QueryCountHeaderAdvice}.
+ * 
+ * Runs against the full stack on H2 (MemoControllerTest mocks the service,
+ * so it never reaches the database). A failing budget usually means an N+1
+ * pattern: a query per memo or per priority instead of one set-based query.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MemoControllerQueryBudgetTest {
+
+    private static final int MEMO_COUNT = 40;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemoRepository memoRepository;
+
+    private List<Long> memoIds;
+
+    @BeforeEach
+    void setUp() {
+        Priority[] priorities = Priority.values();
+        List<Memo> memos = new ArrayList<>();
+        for (int i = 0; i < MEMO_COUNT; i++) {
+            memos.add(new Memo("Memo " + i, "Content " + i, priorities[i % priorities.length]));
+        }
+        memoIds = memoRepository.saveAll(memos).stream().map(Memo::getId).sorted().collect(Collectors.toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        memoRepository.deleteAll();
+    }
+
+    @Test
+    void listEndpoints_ShouldIssueOneQueryRegardlessOfSize() throws Exception {
+        assertWithinBudget(get("/api/memos"), 1);
+        assertWithinBudget(get("/api/memos").param("priority", "HIGH,LOW"), 1);
+        assertWithinBudget(get("/api/memos").param("sort", "priority_asc"), 1);
+        assertWithinBudget(get("/api/memos/page").param("size", "10"), 1);
+    }
+
+    @Test
+    void getMemoById_ShouldIssueAtMostOneQuery() throws Exception {
+        assertWithinBudget(get("/api/memos/{id}", memoIds.get(0)), 1);
+    }
+
+    @Test
+    void getPriorityStatistics_ShouldNotCountPerPriority() throws Exception {
+        assertWithinBudget(get("/api/memos/stats/priority"), 1);
+    }
+
+    @Test
+    void updateMemoPriority_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget(put("/api/memos/{id}/priority", memoIds.get(0))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"priority\":\"HIGH\"}"), 3);
+    }
+
+    @Test
+    void conditionalUpdateMemoPriority_ShouldIssueSingleUpdate() throws Exception {
+        Long id = memoIds.get(0);
+        Priority priority = memoRepository.findById(id).orElseThrow().getPriority();
+        assertWithinBudget(put("/api/memos/{id}/priority", id)
+                .header("If-Match", "\"" + id + "-0-" + priority.getValue() + "\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"priority\":\"HIGH\"}"), 1);
+    }
+
+    @Test
+    void bulkUpdatePriority_QueryCountShouldNotGrowWithMemoCount() throws Exception {
+        long few = queryCount(bulkPriorityRequest(memoIds.subList(0, 2), "HIGH"));
+        long many = queryCount(bulkPriorityRequest(memoIds, "LOW"));
+
+        assertEquals(few, many, "bulk priority update issues statements per memo");
+        assertTrue(many <= 3, "bulk priority update issued " + many + " statements");
+    }
+
+    private MockHttpServletRequestBuilder bulkPriorityRequest(List<Long> ids, String priority) {
+        String idList = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return post("/api/memos/bulk/priority")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"memoIds\":[" + idList + "],\"priority\":\"" + priority + "\"}");
+    }
+
+    private void assertWithinBudget(MockHttpServletRequestBuilder request, long budget) throws Exception {
+        long count = queryCount(request);
+        assertTrue(count <= budget, "issued " + count + " statements, budget is " + budget);
+    }
+
+    private long queryCount(MockHttpServletRequestBuilder request) throws Exception {
+        String header = mockMvc.perform(request)
+                .andExpect(status().is2xxSuccessful())
+                .andReturn()
+                .getResponse()
+                .getHeader(QueryCountHeaderAdvice.QUERY_COUNT_HEADER);
+        assertNotNull(header, "response carries no " + QueryCountHeaderAdvice.QUERY_COUNT_HEADER + " header");
+        return Long.parseLong(header);
+    }
+}
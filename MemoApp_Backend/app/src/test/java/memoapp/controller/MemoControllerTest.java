@@ -1,33 +1,53 @@
 package memoapp.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import memoapp.config.MemoProperties;
 import memoapp.dto.BulkPriorityUpdateRequest;
+import memoapp.dto.BulkPriorityUpdateResult;
+import memoapp.dto.MemoCacheStatistics;
+import memoapp.dto.MemoPage;
+import memoapp.dto.MemoSummary;
 import memoapp.dto.PriorityStatistics;
 import memoapp.dto.PriorityUpdateRequest;
+import memoapp.dto.PriorityUpdateResult;
 import memoapp.entity.Memo;
 import memoapp.entity.Priority;
 import memoapp.exception.MemoNotFoundException;
+import memoapp.exception.MemoVersionConflictException;
+import memoapp.repository.IdempotencyRecordRepository;
+import memoapp.service.IdempotencyService;
+import memoapp.service.MemoChangeTracker;
+import memoapp.service.MemoChangeTracker.MemoETag;
 import memoapp.service.MemoService;
+import memoapp.service.PriorityWriteBuffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.*;
 
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(MemoController.class)
+// Needed by the query-count filter and header advice included in the MVC slice
+@EnableConfigurationProperties(MemoProperties.class)
+@Import(IdempotencyService.class)
 class MemoControllerTest {
 
     @Autowired
@@ -36,6 +56,15 @@ class MemoControllerTest {
     @MockBean
     private MemoService memoService;
 
+    @MockBean
+    private MemoChangeTracker changeTracker;
+
+    @MockBean
+    private PriorityWriteBuffer writeBuffer;
+
+    @MockBean
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -50,6 +79,10 @@ class MemoControllerTest {
         testMemo.setPriority(Priority.MEDIUM);
         testMemo.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
         testMemo.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+
+        when(changeTracker.isTableETagEnabled()).thenReturn(true);
+        when(changeTracker.getETag()).thenReturn("\"test-7\"");
+        when(changeTracker.getETag(any(Memo.class))).thenReturn("\"1-3-MEDIUM\"");
     }
 
     @Test
@@ -61,7 +94,7 @@ class MemoControllerTest {
         memo2.setCreatedAt(LocalDateTime.of(2024, 1, 2, 12, 0));
         memo2.setUpdatedAt(LocalDateTime.of(2024, 1, 2, 12, 0));
 
-        List<Memo> memos = Arrays.asList(testMemo, memo2);
+        List<MemoSummary> memos = Arrays.asList(MemoSummary.of(testMemo), MemoSummary.of(memo2));
         when(memoService.getAllMemos()).thenReturn(memos);
 
         mockMvc.perform(get("/api/memos"))
@@ -70,7 +103,9 @@ class MemoControllerTest {
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].id", is(1)))
                 .andExpect(jsonPath("$[0].title", is("Test Memo")))
-                .andExpect(jsonPath("$[0].content", is("Test content")))
+                .andExpect(jsonPath("$[0].contentPreview", is("Test content")))
+                .andExpect(jsonPath("$[0].contentTruncated", is(false)))
+                .andExpect(jsonPath("$[0].content").doesNotExist())
                 .andExpect(jsonPath("$[1].id", is(2)))
                 .andExpect(jsonPath("$[1].title", is("Second Memo")));
 
@@ -140,6 +175,67 @@ class MemoControllerTest {
         verify(memoService, times(1)).createMemo(any(Memo.class));
     }
 
+    @Test
+    void createMemo_WithRepeatedIdempotencyKey_ShouldReplayFirstResponse() throws Exception {
+        Memo newMemo = new Memo();
+        newMemo.setTitle("New Memo");
+        newMemo.setContent("New content");
+
+        Memo savedMemo = new Memo();
+        savedMemo.setId(3L);
+        savedMemo.setTitle("New Memo");
+        savedMemo.setContent("New content");
+
+        when(memoService.createMemo(any(Memo.class))).thenReturn(savedMemo);
+
+        mockMvc.perform(post("/api/memos")
+                        .header("Idempotency-Key", "create-3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newMemo)))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andExpect(jsonPath("$.id", is(3)));
+
+        mockMvc.perform(post("/api/memos")
+                        .header("Idempotency-Key", "create-3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newMemo)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id", is(3)))
+                .andExpect(jsonPath("$.title", is("New Memo")));
+
+        verify(memoService, times(1)).createMemo(any(Memo.class));
+    }
+
+    @Test
+    void createMemo_WithReusedIdempotencyKeyAndDifferentBody_ShouldReturnUnprocessableEntity() throws Exception {
+        Memo firstMemo = new Memo();
+        firstMemo.setTitle("First");
+        firstMemo.setContent("Content");
+
+        Memo secondMemo = new Memo();
+        secondMemo.setTitle("Second");
+        secondMemo.setContent("Content");
+
+        when(memoService.createMemo(any(Memo.class))).thenReturn(testMemo);
+
+        mockMvc.perform(post("/api/memos")
+                        .header("Idempotency-Key", "create-reused")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(firstMemo)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/memos")
+                        .header("Idempotency-Key", "create-reused")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(secondMemo)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.idempotencyKey", is("create-reused")));
+
+        verify(memoService, times(1)).createMemo(any(Memo.class));
+    }
+
     @Test
     void updateMemo_WhenMemoExists_ShouldReturnUpdatedMemo() throws Exception {
         Memo updateRequest = new Memo();
@@ -151,18 +247,19 @@ class MemoControllerTest {
         updatedMemo.setTitle("Updated Memo");
         updatedMemo.setContent("Updated content");
 
-        when(memoService.updateMemo(eq(1L), any(Memo.class))).thenReturn(updatedMemo);
+        when(memoService.updateMemo(eq(1L), any(Memo.class), isNull())).thenReturn(updatedMemo);
 
         mockMvc.perform(put("/api/memos/1")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"1-3-MEDIUM\""))
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.title", is("Updated Memo")))
                 .andExpect(jsonPath("$.content", is("Updated content")));
 
-        verify(memoService, times(1)).updateMemo(eq(1L), any(Memo.class));
+        verify(memoService, times(1)).updateMemo(eq(1L), any(Memo.class), isNull());
     }
 
     @Test
@@ -171,14 +268,43 @@ class MemoControllerTest {
         updatedMemo.setTitle("Updated Memo");
         updatedMemo.setContent("Updated content");
 
-        when(memoService.updateMemo(eq(999L), any(Memo.class))).thenThrow(new MemoNotFoundException(999L));
+        when(memoService.updateMemo(eq(999L), any(Memo.class), isNull())).thenThrow(new MemoNotFoundException(999L));
 
         mockMvc.perform(put("/api/memos/999")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updatedMemo)))
                 .andExpect(status().isNotFound());
 
-        verify(memoService, times(1)).updateMemo(eq(999L), any(Memo.class));
+        verify(memoService, times(1)).updateMemo(eq(999L), any(Memo.class), isNull());
+    }
+
+    @Test
+    void updateMemo_WithStaleIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        Memo updateRequest = new Memo("Updated Memo", "Updated content", Priority.HIGH);
+        when(changeTracker.parseETag("\"1-2-HIGH\"", 1L)).thenReturn(Optional.of(new MemoETag(2L, Priority.HIGH)));
+        when(memoService.updateMemo(eq(1L), any(Memo.class), eq(2L)))
+                .thenThrow(new MemoVersionConflictException(1L, 2L));
+
+        mockMvc.perform(put("/api/memos/1")
+                        .header("If-Match", "\"1-2-HIGH\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.memoId", is(1)));
+    }
+
+    @Test
+    void updateMemo_WithForeignIfMatch_ShouldRequireUnmatchableVersion() throws Exception {
+        Memo updateRequest = new Memo("Updated Memo", "Updated content", Priority.HIGH);
+        when(changeTracker.parseETag("\"2-2-HIGH\"", 1L)).thenReturn(Optional.empty());
+        when(memoService.updateMemo(eq(1L), any(Memo.class), eq(-1L)))
+                .thenThrow(new MemoVersionConflictException(1L, -1L));
+
+        mockMvc.perform(put("/api/memos/1")
+                        .header("If-Match", "\"2-2-HIGH\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isPreconditionFailed());
     }
 
     @Test
@@ -208,7 +334,7 @@ class MemoControllerTest {
     @Test
     void getAllMemos_WithPriorityFilter_ShouldReturnFilteredMemos() throws Exception {
         List<Priority> priorities = Arrays.asList(Priority.HIGH, Priority.MEDIUM);
-        List<Memo> filteredMemos = Arrays.asList(testMemo);
+        List<MemoSummary> filteredMemos = Arrays.asList(MemoSummary.of(testMemo));
         
         when(memoService.getMemosByPriority(priorities)).thenReturn(filteredMemos);
 
@@ -226,7 +352,7 @@ class MemoControllerTest {
 
     @Test
     void getAllMemos_WithSortParameter_ShouldReturnSortedMemos() throws Exception {
-        List<Memo> sortedMemos = Arrays.asList(testMemo);
+        List<MemoSummary> sortedMemos = Arrays.asList(MemoSummary.of(testMemo));
         
         when(memoService.getMemosSortedByPriority("priority_desc")).thenReturn(sortedMemos);
 
@@ -241,16 +367,13 @@ class MemoControllerTest {
     }
 
     @Test
-    void updateMemoPriority_WithValidData_ShouldReturnUpdatedMemo() throws Exception {
+    void updateMemoPriority_WithValidData_ShouldReturnUpdateResult() throws Exception {
         PriorityUpdateRequest request = new PriorityUpdateRequest(Priority.HIGH);
         
-        Memo updatedMemo = new Memo();
-        updatedMemo.setId(1L);
-        updatedMemo.setTitle("Test Memo");
-        updatedMemo.setContent("Test content");
-        updatedMemo.setPriority(Priority.HIGH);
+        PriorityUpdateResult result = new PriorityUpdateResult(1L, Priority.HIGH, LocalDateTime.of(2024, 1, 1, 12, 0), 5L);
         
-        when(memoService.updateMemoPriority(1L, Priority.HIGH)).thenReturn(updatedMemo);
+        when(memoService.updateMemoPriority(1L, Priority.HIGH, null)).thenReturn(result);
+        when(changeTracker.getETag(1L, 5L, Priority.HIGH)).thenReturn("\"1-5-HIGH\"");
 
         mockMvc.perform(put("/api/memos/1/priority")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -258,16 +381,20 @@ class MemoControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id", is(1)))
-                .andExpect(jsonPath("$.priority", is("HIGH")));
+                .andExpect(jsonPath("$.priority", is("HIGH")))
+                .andExpect(header().string("ETag", "\"1-5-HIGH\""))
+                .andExpect(jsonPath("$.updatedAt", is("2024-01-01T12:00:00")))
+                .andExpect(jsonPath("$.version", is(5)))
+                .andExpect(jsonPath("$.content").doesNotExist());
 
-        verify(memoService, times(1)).updateMemoPriority(1L, Priority.HIGH);
+        verify(memoService, times(1)).updateMemoPriority(1L, Priority.HIGH, null);
     }
 
     @Test
     void updateMemoPriority_WithInvalidMemo_ShouldReturnNotFound() throws Exception {
         PriorityUpdateRequest request = new PriorityUpdateRequest(Priority.HIGH);
         
-        when(memoService.updateMemoPriority(999L, Priority.HIGH))
+        when(memoService.updateMemoPriority(999L, Priority.HIGH, null))
                 .thenThrow(new MemoNotFoundException(999L));
 
         mockMvc.perform(put("/api/memos/999/priority")
@@ -275,39 +402,128 @@ class MemoControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isNotFound());
 
-        verify(memoService, times(1)).updateMemoPriority(999L, Priority.HIGH);
+        verify(memoService, times(1)).updateMemoPriority(999L, Priority.HIGH, null);
+    }
+
+    @Test
+    void updateMemoPriority_WhenBuffered_ShouldReturnAccepted() throws Exception {
+        PriorityUpdateRequest request = new PriorityUpdateRequest(Priority.HIGH);
+        when(writeBuffer.submit(1L, Priority.HIGH)).thenReturn(true);
+
+        mockMvc.perform(put("/api/memos/1/priority")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(content().string(""));
+
+        verify(memoService, never()).updateMemoPriority(any(), any(), any());
+    }
+
+    @Test
+    void updateMemoPriority_WithIfMatch_ShouldBypassWriteBuffer() throws Exception {
+        PriorityUpdateRequest request = new PriorityUpdateRequest(Priority.HIGH);
+        when(changeTracker.parseETag("\"1-4-LOW\"", 1L)).thenReturn(Optional.of(new MemoETag(4L, Priority.LOW)));
+        when(memoService.updateMemoPriority(1L, Priority.HIGH, new MemoETag(4L, Priority.LOW)))
+                .thenReturn(new PriorityUpdateResult(1L, Priority.HIGH, LocalDateTime.of(2024, 1, 1, 12, 0), 5L));
+
+        mockMvc.perform(put("/api/memos/1/priority")
+                        .header("If-Match", "\"1-4-LOW\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        verify(writeBuffer, never()).submit(any(), any());
+    }
+
+    @Test
+    void updateMemoPriority_WithIfMatch_ShouldPassExpectedVersionAndPriority() throws Exception {
+        PriorityUpdateRequest request = new PriorityUpdateRequest(Priority.HIGH);
+        when(changeTracker.parseETag("\"1-4-LOW\"", 1L)).thenReturn(Optional.of(new MemoETag(4L, Priority.LOW)));
+        when(memoService.updateMemoPriority(1L, Priority.HIGH, new MemoETag(4L, Priority.LOW)))
+                .thenThrow(new MemoVersionConflictException(1L, 4L));
+
+        mockMvc.perform(put("/api/memos/1/priority")
+                        .header("If-Match", "\"1-4-LOW\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(memoService, times(1)).updateMemoPriority(1L, Priority.HIGH, new MemoETag(4L, Priority.LOW));
     }
 
     @Test
-    void bulkUpdatePriority_WithValidData_ShouldReturnUpdatedMemos() throws Exception {
+    void updateMemoPriority_WithWildcardIfMatch_ShouldUpdateUnconditionally() throws Exception {
+        PriorityUpdateRequest request = new PriorityUpdateRequest(Priority.HIGH);
+        when(memoService.updateMemoPriority(1L, Priority.HIGH, null))
+                .thenReturn(new PriorityUpdateResult(1L, Priority.HIGH, LocalDateTime.of(2024, 1, 1, 12, 0), 5L));
+        when(changeTracker.getETag(1L, 5L, Priority.HIGH)).thenReturn("\"1-5-HIGH\"");
+
+        mockMvc.perform(put("/api/memos/1/priority")
+                        .header("If-Match", "*")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        verify(changeTracker, never()).parseETag(any(), any());
+    }
+
+    @Test
+    void bulkUpdatePriority_WithValidData_ShouldReturnUpdateSummary() throws Exception {
         List<Long> memoIds = Arrays.asList(1L, 2L, 3L);
         BulkPriorityUpdateRequest request = new BulkPriorityUpdateRequest(memoIds, Priority.HIGH);
         
-        Memo memo1 = new Memo("Title 1", "Content 1", Priority.HIGH);
-        memo1.setId(1L);
-        Memo memo2 = new Memo("Title 2", "Content 2", Priority.HIGH);
-        memo2.setId(2L);
-        Memo memo3 = new Memo("Title 3", "Content 3", Priority.HIGH);
-        memo3.setId(3L);
-        
-        List<Memo> updatedMemos = Arrays.asList(memo1, memo2, memo3);
+        BulkPriorityUpdateResult result = new BulkPriorityUpdateResult(
+                memoIds, Priority.HIGH, 3, LocalDateTime.of(2024, 1, 1, 12, 0));
         
         when(memoService.bulkUpdatePriority(any(BulkPriorityUpdateRequest.class)))
-                .thenReturn(updatedMemos);
+                .thenReturn(result);
 
         mockMvc.perform(post("/api/memos/bulk/priority")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$", hasSize(3)))
-                .andExpect(jsonPath("$[0].priority", is("HIGH")))
-                .andExpect(jsonPath("$[1].priority", is("HIGH")))
-                .andExpect(jsonPath("$[2].priority", is("HIGH")));
+                .andExpect(jsonPath("$.memoIds", hasSize(3)))
+                .andExpect(jsonPath("$.priority", is("HIGH")))
+                .andExpect(jsonPath("$.updatedCount", is(3)));
 
         verify(memoService, times(1)).bulkUpdatePriority(any(BulkPriorityUpdateRequest.class));
     }
 
+    @Test
+    void bulkUpdatePriority_WithRepeatedIdempotencyKey_ShouldUpdateOnce() throws Exception {
+        List<Long> memoIds = Arrays.asList(1L, 2L);
+        BulkPriorityUpdateRequest request = new BulkPriorityUpdateRequest(memoIds, Priority.LOW);
+
+        BulkPriorityUpdateResult result = new BulkPriorityUpdateResult(
+                memoIds, Priority.LOW, 2, LocalDateTime.of(2024, 1, 1, 12, 0));
+
+        when(memoService.bulkUpdatePriority(any(BulkPriorityUpdateRequest.class)))
+                .thenReturn(result);
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            mockMvc.perform(post("/api/memos/bulk/priority")
+                            .header("Idempotency-Key", "bulk-low")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.updatedCount", is(2)));
+        }
+
+        verify(memoService, times(1)).bulkUpdatePriority(any(BulkPriorityUpdateRequest.class));
+    }
+
+    @Test
+    void createMemo_WithBlankIdempotencyKey_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/memos")
+                        .header("Idempotency-Key", " ")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testMemo)))
+                .andExpect(status().isBadRequest());
+
+        verify(memoService, never()).createMemo(any(Memo.class));
+    }
+
     @Test
     void getPriorityStatistics_ShouldReturnStatistics() throws Exception {
         Map<Priority, Long> priorityCounts = new HashMap<>();
@@ -332,4 +548,140 @@ class MemoControllerTest {
 
         verify(memoService, times(1)).getPriorityStatistics();
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllMemos_ShouldReturnETagAndNoCache() throws Exception {
+        when(memoService.getAllMemos()).thenReturn(Arrays.asList(MemoSummary.of(testMemo)));
+
+        mockMvc.perform(get("/api/memos"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"test-7\""))
+                .andExpect(header().string("Cache-Control", "no-cache"));
+    }
+
+    @Test
+    void getAllMemos_WithMatchingIfNoneMatch_ShouldReturnNotModifiedWithoutLoading() throws Exception {
+        mockMvc.perform(get("/api/memos").param("priority", "HIGH").header("If-None-Match", "\"test-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"test-7\""))
+                .andExpect(content().string(""));
+
+        verifyNoInteractions(memoService);
+    }
+
+    @Test
+    void getAllMemos_WithStaleIfNoneMatch_ShouldReturnFullResponse() throws Exception {
+        when(memoService.getAllMemos()).thenReturn(Arrays.asList(MemoSummary.of(testMemo)));
+
+        mockMvc.perform(get("/api/memos").header("If-None-Match", "\"test-6\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void getAllMemos_WithTableETagsDisabled_ShouldIgnoreIfNoneMatch() throws Exception {
+        when(changeTracker.isTableETagEnabled()).thenReturn(false);
+        when(memoService.getAllMemos()).thenReturn(Arrays.asList(MemoSummary.of(testMemo)));
+
+        mockMvc.perform(get("/api/memos").header("If-None-Match", "\"test-7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void getPriorityStatistics_WithMatchingIfNoneMatch_ShouldReturnNotModified() throws Exception {
+        mockMvc.perform(get("/api/memos/stats/priority").header("If-None-Match", "\"test-7\""))
+                .andExpect(status().isNotModified());
+
+        verify(memoService, never()).getPriorityStatistics();
+    }
+
+    @Test
+    void getMemoById_WithMatchingIfNoneMatch_ShouldReturnNotModified() throws Exception {
+        when(memoService.getMemoById(1L)).thenReturn(testMemo);
+
+        mockMvc.perform(get("/api/memos/1").header("If-None-Match", "\"1-3-MEDIUM\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void crossOriginRequest_ShouldExposeETagAndQueryStatisticsHeaders() throws Exception {
+        when(memoService.getAllMemos()).thenReturn(Arrays.asList(MemoSummary.of(testMemo)));
+
+        mockMvc.perform(get("/api/memos").header("Origin", "http://localhost:4200"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Access-Control-Expose-Headers", allOf(
+                        containsString("ETag"), containsString("Idempotent-Replayed"),
+                        containsString("X-Query-Count"), containsString("X-Query-Time"))));
+    }
+
+    @Test
+    void getCacheStatistics_ShouldReturnCounters() throws Exception {
+        when(memoService.getCacheStatistics()).thenReturn(new MemoCacheStatistics(4L, 30L, 10L, 0.75, 2L));
+
+        mockMvc.perform(get("/api/memos/stats/cache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size", is(4)))
+                .andExpect(jsonPath("$.hitCount", is(30)))
+                .andExpect(jsonPath("$.missCount", is(10)))
+                .andExpect(jsonPath("$.hitRate", is(0.75)))
+                .andExpect(jsonPath("$.evictionCount", is(2)));
+    }
+
+    @Test
+    void getMemoPage_ShouldReturnItemsAndNextCursor() throws Exception {
+        MemoPage<MemoSummary> page = new MemoPage<>(Arrays.asList(MemoSummary.of(testMemo)), "abc123");
+
+        when(memoService.getMemoPage(Arrays.asList(Priority.HIGH), "priority_asc", "prev", 1)).thenReturn(page);
+
+        mockMvc.perform(get("/api/memos/page")
+                        .param("priority", "high")
+                        .param("sort", "priority_asc")
+                        .param("cursor", "prev")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is(1)))
+                .andExpect(jsonPath("$.nextCursor", is("abc123")))
+                .andExpect(jsonPath("$.hasNext", is(true)));
+
+        verify(memoService, times(1)).getMemoPage(Arrays.asList(Priority.HIGH), "priority_asc", "prev", 1);
+    }
+
+    @Test
+    void createMemos_ShouldReturnCreatedMemos() throws Exception {
+        List<Memo> request = Arrays.asList(new Memo("First", "Content"), new Memo("Second", "Content"));
+        Memo first = new Memo("First", "Content");
+        first.setId(1L);
+        Memo second = new Memo("Second", "Content");
+        second.setId(2L);
+
+        when(memoService.createMemos(anyList())).thenReturn(Arrays.asList(first, second));
+
+        mockMvc.perform(post("/api/memos/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[1].id", is(2)));
+
+        verify(memoService, times(1)).createMemos(anyList());
+    }
+
+    @Test
+    void searchMemos_ShouldReturnMatchingPage() throws Exception {
+        when(memoService.searchMemos("test", null, null)).thenReturn(
+                new MemoPage<>(Arrays.asList(MemoSummary.of(testMemo)), null));
+
+        mockMvc.perform(get("/api/memos/search").param("q", "test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title", is("Test Memo")))
+                .andExpect(jsonPath("$.hasNext", is(false)));
+
+        verify(memoService, times(1)).searchMemos("test", null, null);
+    }
+}
@@ -0,0 +1,143 @@
+package memoapp.controller;
+
+import memoapp.dto.MemoSummary;
+import memoapp.dto.PriorityStatistics;
+import memoapp.entity.Memo;
+import memoapp.entity.Priority;
+import memoapp.exception.MemoNotFoundException;
+import memoapp.exception.MemoValidationException;
+import memoapp.service.ReactiveMemoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactiveMemoController.class)
+@ActiveProfiles("reactive")
+class ReactiveMemoControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveMemoService memoService;
+
+    private Memo testMemo;
+
+    @BeforeEach
+    void setUp() {
+        testMemo = new Memo();
+        testMemo.setId(1L);
+        testMemo.setTitle("Test Memo");
+        testMemo.setContent("Test content");
+        testMemo.setPriority(Priority.MEDIUM);
+        testMemo.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        testMemo.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+
+    @Test
+    void getAllMemos_ShouldReturnJsonArray() {
+        when(memoService.getAllMemos()).thenReturn(Flux.just(MemoSummary.of(testMemo)));
+
+        webTestClient.get().uri("/api/memos")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].title").isEqualTo("Test Memo")
+                .jsonPath("$[0].contentPreview").isEqualTo("Test content")
+                .jsonPath("$[0].priority").isEqualTo("MEDIUM");
+    }
+
+    @Test
+    void getAllMemos_WithNdjson_ShouldStreamOneMemoPerLine() {
+        Memo second = new Memo("Second", "More content", Priority.LOW);
+        second.setId(2L);
+        when(memoService.getAllMemos()).thenReturn(Flux.just(MemoSummary.of(testMemo), MemoSummary.of(second)));
+
+        List<MemoSummary> memos = webTestClient.get().uri("/api/memos")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(MemoSummary.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(memos).extracting(MemoSummary::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void getAllMemos_WithPriorityFilter_ShouldUseSameParsingAsServletController() {
+        when(memoService.getMemosByPriority(List.of(Priority.HIGH, Priority.MEDIUM)))
+                .thenReturn(Flux.just(MemoSummary.of(testMemo)));
+
+        webTestClient.get().uri("/api/memos?priority=high,medium")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(1);
+
+        verify(memoService).getMemosByPriority(List.of(Priority.HIGH, Priority.MEDIUM));
+    }
+
+    @Test
+    void getAllMemos_WithInvalidSort_ShouldReturnValidationError() {
+        when(memoService.getMemosSortedByPriority("newest")).thenReturn(Flux.error(new MemoValidationException(
+                "Invalid sort order. Use 'priority_desc' or 'priority_asc'", "sort", "newest")));
+
+        webTestClient.get().uri("/api/memos?sort=newest")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Validation Error")
+                .jsonPath("$.field").isEqualTo("sort")
+                .jsonPath("$.path").isEqualTo("/api/memos");
+    }
+
+    @Test
+    void getMemoById_WhenMissing_ShouldReturnNotFound() {
+        when(memoService.getMemoById(99L)).thenReturn(Mono.error(new MemoNotFoundException(99L)));
+
+        webTestClient.get().uri("/api/memos/99")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.memoId").isEqualTo(99);
+    }
+
+    @Test
+    void getPriorityStatistics_ShouldReturnCounts() {
+        Map<Priority, Long> counts = new EnumMap<>(Priority.class);
+        counts.put(Priority.HIGH, 2L);
+        counts.put(Priority.MEDIUM, 0L);
+        counts.put(Priority.LOW, 1L);
+        counts.put(Priority.NONE, 0L);
+        when(memoService.getPriorityStatistics())
+                .thenReturn(Mono.just(new PriorityStatistics(counts, 3L, Priority.HIGH)));
+
+        webTestClient.get().uri("/api/memos/stats/priority")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalMemos").isEqualTo(3)
+                .jsonPath("$.mostCommonPriority").isEqualTo("HIGH");
+    }
+}
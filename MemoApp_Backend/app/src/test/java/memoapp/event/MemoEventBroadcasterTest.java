@@ -0,0 +1,71 @@
+package memoapp.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import memoapp.config.MemoProperties;
+import memoapp.entity.Priority;
+import memoapp.service.MemoChangeTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoEventBroadcasterTest {
+
+    private final MemoProperties properties = new MemoProperties();
+    private MemoEventBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void subscribe_ShouldRegisterSubscriber() {
+        broadcaster = new MemoEventBroadcaster(new MemoChangeTracker(properties), new ObjectMapper(), properties);
+
+        SseEmitter emitter = broadcaster.subscribe();
+
+        assertNotNull(emitter);
+        assertEquals(1, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void subscribe_WhenLimitReached_ShouldRejectSubscriber() {
+        properties.getEvents().setMaxSubscribers(1);
+        broadcaster = new MemoEventBroadcaster(new MemoChangeTracker(properties), new ObjectMapper(), properties);
+
+        assertNotNull(broadcaster.subscribe());
+        assertNull(broadcaster.subscribe());
+        assertEquals(1, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void onMemoChanged_WhenSubscriberFallsBehind_ShouldDropItWithoutBlocking() {
+        properties.getEvents().setQueueCapacity(2);
+        CountDownLatch stalled = new CountDownLatch(1);
+        ExecutorService senders = Executors.newSingleThreadExecutor();
+        // Occupies the only sender, as a write to a stalled client would
+        senders.execute(() -> {
+            try {
+                stalled.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        broadcaster = new MemoEventBroadcaster(new MemoChangeTracker(properties), new ObjectMapper().findAndRegisterModules(), properties, senders);
+
+        assertNotNull(broadcaster.subscribe());
+        broadcaster.onMemoChanged(MemoChangeEvent.priorityChanged(1L, Priority.HIGH, LocalDateTime.now(), 1L));
+        assertEquals(1, broadcaster.getSubscriberCount());
+
+        broadcaster.onMemoChanged(MemoChangeEvent.priorityChanged(1L, Priority.LOW, LocalDateTime.now(), 2L));
+        assertEquals(0, broadcaster.getSubscriberCount());
+        stalled.countDown();
+    }
+}
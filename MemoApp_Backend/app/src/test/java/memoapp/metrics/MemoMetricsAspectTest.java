@@ -0,0 +1,89 @@
+package memoapp.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import memoapp.entity.Priority;
+import memoapp.exception.MemoValidationException;
+import memoapp.repository.MemoRepository;
+import memoapp.service.MemoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemoMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemoService memoService;
+    private MemoRepository memoRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MemoMetricsAspect aspect = new MemoMetricsAspect(meterRegistry);
+
+        AspectJProxyFactory serviceFactory = new AspectJProxyFactory(mock(MemoService.class));
+        serviceFactory.setProxyTargetClass(true);
+        serviceFactory.addAspect(aspect);
+        memoService = serviceFactory.getProxy();
+
+        AspectJProxyFactory repositoryFactory = new AspectJProxyFactory(mock(MemoRepository.class));
+        repositoryFactory.addAspect(aspect);
+        memoRepository = repositoryFactory.getProxy();
+    }
+
+    @Test
+    void serviceCall_ShouldBeTimedWithSortTag() {
+        memoService.getMemosSortedByPriority("PRIORITY_ASC");
+
+        Timer timer = meterRegistry.find(MemoMetricsAspect.SERVICE_TIMER)
+                .tags("method", "getMemosSortedByPriority", "priority", "all", "sort", "priority_asc", "exception", "none")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void serviceCall_ShouldNormalizePriorityFilterTag() {
+        memoService.getMemosByPriority(List.of(Priority.LOW, Priority.HIGH, Priority.LOW));
+
+        assertNotNull(meterRegistry.find(MemoMetricsAspect.SERVICE_TIMER)
+                .tags("method", "getMemosByPriority", "priority", "HIGH,LOW")
+                .timer());
+    }
+
+    @Test
+    void serviceCall_WithUnknownSort_ShouldTagInvalidAndException() {
+        MemoService target = mock(MemoService.class);
+        when(target.getMemosSortedByPriority("newest"))
+                .thenThrow(new MemoValidationException("Invalid sort order", "sort", "newest"));
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MemoMetricsAspect(meterRegistry));
+        MemoService proxy = factory.getProxy();
+
+        assertThrows(MemoValidationException.class, () -> proxy.getMemosSortedByPriority("newest"));
+
+        assertNotNull(meterRegistry.find(MemoMetricsAspect.SERVICE_TIMER)
+                .tags("sort", "invalid", "exception", "MemoValidationException")
+                .timer());
+    }
+
+    @Test
+    void repositoryCall_ShouldBeTimedWithSortFromMethodName() {
+        memoRepository.findAllOrderByPriorityDescCreatedAtDesc();
+        memoRepository.countGroupByPriority();
+
+        assertNotNull(meterRegistry.find(MemoMetricsAspect.REPOSITORY_TIMER)
+                .tags("method", "findAllOrderByPriorityDescCreatedAtDesc", "sort", "priority_desc")
+                .timer());
+        assertNotNull(meterRegistry.find(MemoMetricsAspect.REPOSITORY_TIMER)
+                .tags("method", "countGroupByPriority", "sort", "none")
+                .timer());
+    }
+}
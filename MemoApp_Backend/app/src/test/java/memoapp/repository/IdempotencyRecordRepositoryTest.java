@@ -0,0 +1,47 @@
+package memoapp.repository;
+
+import memoapp.entity.IdempotencyRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@org.springframework.test.context.ActiveProfiles("test")
+class IdempotencyRecordRepositoryTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private IdempotencyRecordRepository recordRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void save_NewRecord_ShouldPersistInsteadOfMerging() {
+        IdempotencyRecord record = new IdempotencyRecord("POST /api/memos key-1", "hash", 200, "{}", NOON);
+
+        IdempotencyRecord saved = recordRepository.saveAndFlush(record);
+
+        // merge would return a managed copy after selecting the row by key
+        assertSame(record, saved);
+        assertFalse(saved.isNew());
+        assertTrue(recordRepository.findById("POST /api/memos key-1").isPresent());
+    }
+
+    @Test
+    void save_WithStoredKey_ShouldFailInsteadOfOverwriting() {
+        recordRepository.saveAndFlush(new IdempotencyRecord("POST /api/memos key-1", "first", 200, "{}", NOON));
+        // As if another instance had stored it
+        entityManager.clear();
+
+        assertThrows(DataIntegrityViolationException.class, () -> recordRepository.saveAndFlush(
+                new IdempotencyRecord("POST /api/memos key-1", "second", 200, "{}", NOON)));
+    }
+}
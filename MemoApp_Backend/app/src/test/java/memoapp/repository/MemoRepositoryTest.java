@@ -1,15 +1,26 @@
 package memoapp.repository;
 
+import memoapp.dto.MemoPriorityView;
+import memoapp.dto.MemoSummary;
+import memoapp.dto.PriorityCount;
 import memoapp.entity.Memo;
+import memoapp.entity.Priority;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -48,6 +59,61 @@ class MemoRepositoryTest {
         assertTrue(memos.stream().anyMatch(m -> m.getId().equals(savedMemo2.getId())));
     }
 
+    @Test
+    void findById_ShouldLoadContentOnlyOnFirstAccess() {
+        Memo savedMemo = entityManager.persistAndFlush(testMemo);
+        entityManager.clear();
+
+        Memo memo = memoRepository.findById(savedMemo.getId()).orElseThrow();
+
+        assertFalse(Hibernate.isPropertyInitialized(memo, "content"));
+        assertEquals("Test content for repository testing", memo.getContent());
+        assertTrue(Hibernate.isPropertyInitialized(memo, "content"));
+    }
+
+    @Test
+    void findWithContentById_ShouldReturnUnmanagedMemoWithContent() {
+        Memo savedMemo = entityManager.persistAndFlush(testMemo);
+        entityManager.clear();
+
+        Memo memo = memoRepository.findWithContentById(savedMemo.getId()).orElseThrow();
+
+        assertFalse(entityManager.getEntityManager().contains(memo));
+        assertEquals(savedMemo.getId(), memo.getId());
+        assertEquals("Test content for repository testing", memo.getContent());
+        assertEquals(Priority.NONE, memo.getPriority());
+        assertNotNull(memo.getCreatedAt());
+        assertTrue(memoRepository.findWithContentById(999L).isEmpty());
+    }
+
+    @Test
+    void findAllSummaries_ShouldReturnContentPreviewInIdOrder() {
+        Memo shortMemo = entityManager.persistAndFlush(testMemo);
+        Memo longMemo = entityManager.persistAndFlush(new Memo("Long Memo", "x".repeat(5000), Priority.HIGH));
+        entityManager.clear();
+
+        List<MemoSummary> summaries = memoRepository.findAllSummaries();
+
+        assertEquals(2, summaries.size());
+        assertEquals(shortMemo.getId(), summaries.get(0).getId());
+        assertEquals("Test content for repository testing", summaries.get(0).getContentPreview());
+        assertFalse(summaries.get(0).isContentTruncated());
+        assertEquals(longMemo.getId(), summaries.get(1).getId());
+        assertEquals(Priority.HIGH, summaries.get(1).getPriority());
+        assertEquals(MemoSummary.PREVIEW_LENGTH, summaries.get(1).getContentPreview().length());
+        assertTrue(summaries.get(1).isContentTruncated());
+    }
+
+    @Test
+    void findSummariesByIdIn_ShouldSkipMissingIds() {
+        Memo savedMemo = entityManager.persistAndFlush(testMemo);
+
+        List<MemoSummary> summaries = memoRepository.findSummariesByIdIn(Arrays.asList(savedMemo.getId(), 999L));
+
+        assertEquals(1, summaries.size());
+        assertEquals("Test Memo", summaries.get(0).getTitle());
+    }
+
     @Test
     void findById_WhenMemoExists_ShouldReturnMemo() {
         Memo savedMemo = entityManager.persistAndFlush(testMemo);
@@ -156,4 +222,174 @@ class MemoRepositoryTest {
         assertTrue(memoRepository.existsById(savedMemo.getId()));
         assertFalse(memoRepository.existsById(999L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findPageOrderByPriorityDesc_ShouldWalkAllRowsWithoutGapsOrDuplicates() {
+        entityManager.persistAndFlush(new Memo("Low", "c", Priority.LOW));
+        entityManager.persistAndFlush(new Memo("High 1", "c", Priority.HIGH));
+        entityManager.persistAndFlush(new Memo("None", "c", Priority.NONE));
+        entityManager.persistAndFlush(new Memo("High 2", "c", Priority.HIGH));
+        entityManager.persistAndFlush(new Memo("Medium", "c", Priority.MEDIUM));
+
+        List<Priority> all = Arrays.asList(Priority.values());
+        List<MemoSummary> firstPage = memoRepository.findPageOrderByPriorityDesc(
+                all, Integer.MAX_VALUE, LocalDateTime.of(1970, 1, 1, 0, 0), Long.MAX_VALUE, PageRequest.of(0, 3));
+        MemoSummary last = firstPage.get(firstPage.size() - 1);
+        List<MemoSummary> secondPage = memoRepository.findPageOrderByPriorityDesc(
+                all, last.getPriority().getOrder(), last.getCreatedAt(), last.getId(), PageRequest.of(0, 3));
+
+        assertEquals(3, firstPage.size());
+        assertEquals(2, secondPage.size());
+        assertEquals(Priority.HIGH, firstPage.get(0).getPriority());
+        assertEquals(Priority.HIGH, firstPage.get(1).getPriority());
+        assertEquals(Priority.MEDIUM, firstPage.get(2).getPriority());
+        assertEquals(Priority.LOW, secondPage.get(0).getPriority());
+        assertEquals(Priority.NONE, secondPage.get(1).getPriority());
+    }
+
+    @Test
+    void findPageOrderByPriorityAsc_WithPriorityFilter_ShouldOnlyReturnMatchingRows() {
+        entityManager.persistAndFlush(new Memo("Low", "c", Priority.LOW));
+        entityManager.persistAndFlush(new Memo("High", "c", Priority.HIGH));
+        entityManager.persistAndFlush(new Memo("Medium", "c", Priority.MEDIUM));
+
+        List<MemoSummary> page = memoRepository.findPageOrderByPriorityAsc(
+                Arrays.asList(Priority.HIGH, Priority.LOW), -1, LocalDateTime.of(1970, 1, 1, 0, 0), Long.MAX_VALUE, PageRequest.of(0, 10));
+
+        assertEquals(2, page.size());
+        assertEquals(Priority.LOW, page.get(0).getPriority());
+        assertEquals(Priority.HIGH, page.get(1).getPriority());
+    }
+
+    @Test
+    void streamAllByOrderByIdAsc_ShouldStreamEveryMemoInIdOrder() {
+        Memo first = entityManager.persistAndFlush(testMemo);
+        Memo second = entityManager.persistAndFlush(new Memo("Second Memo", "Second content"));
+
+        List<Long> ids;
+        try (Stream<Memo> memos = memoRepository.streamAllByOrderByIdAsc()) {
+            ids = memos.map(Memo::getId).collect(Collectors.toList());
+        }
+
+        assertEquals(Arrays.asList(first.getId(), second.getId()), ids);
+    }
+
+    @Test
+    void countGroupByPriority_ShouldReturnOneRowPerPresentPriority() {
+        entityManager.persistAndFlush(new Memo("High 1", "c", Priority.HIGH));
+        entityManager.persistAndFlush(new Memo("High 2", "c", Priority.HIGH));
+        entityManager.persistAndFlush(new Memo("Low", "c", Priority.LOW));
+
+        List<PriorityCount> counts = memoRepository.countGroupByPriority();
+
+        assertEquals(2, counts.size());
+        assertEquals(2L, counts.stream().filter(c -> c.getPriority() == Priority.HIGH).findFirst().orElseThrow().getMemoCount());
+        assertEquals(1L, counts.stream().filter(c -> c.getPriority() == Priority.LOW).findFirst().orElseThrow().getMemoCount());
+    }
+
+    @Test
+    void updatePriorityByIdIn_ShouldUpdateAllMatchingRowsInOneStatement() {
+        Memo first = entityManager.persistAndFlush(new Memo("First", "c", Priority.LOW));
+        Memo second = entityManager.persistAndFlush(new Memo("Second", "c", Priority.NONE));
+        Memo untouched = entityManager.persistAndFlush(new Memo("Untouched", "c", Priority.LOW));
+        List<Long> ids = Arrays.asList(first.getId(), second.getId());
+
+        List<MemoPriorityView> locked = memoRepository.lockPrioritiesByIdIn(Arrays.asList(first.getId(), second.getId(), 999L));
+        int updated = memoRepository.updatePriorityByIdIn(ids, Priority.HIGH, LocalDateTime.now());
+
+        assertEquals(2, locked.size());
+        assertEquals(0L, locked.get(0).getVersion());
+        assertEquals(2, updated);
+        assertEquals(Priority.HIGH, memoRepository.findById(first.getId()).orElseThrow().getPriority());
+        assertEquals(Priority.HIGH, memoRepository.findById(second.getId()).orElseThrow().getPriority());
+        assertEquals(Priority.LOW, memoRepository.findById(untouched.getId()).orElseThrow().getPriority());
+    }
+
+    @Test
+    void updatePriorityByIdIn_ShouldIncrementVersion() {
+        Memo memo = entityManager.persistAndFlush(new Memo("Memo", "c", Priority.LOW));
+        assertEquals(0L, memo.getVersion());
+
+        memoRepository.updatePriorityByIdIn(List.of(memo.getId()), Priority.HIGH, LocalDateTime.now());
+
+        assertEquals(1L, memoRepository.findById(memo.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void updatePriorityByIdAndVersion_ShouldOnlyUpdateMatchingVersionAndPriority() {
+        Memo memo = entityManager.persistAndFlush(new Memo("Memo", "c", Priority.LOW));
+        Long id = memo.getId();
+
+        int stale = memoRepository.updatePriorityByIdAndVersion(id, 7L, Priority.LOW, Priority.HIGH, LocalDateTime.now());
+        int wrongPriority = memoRepository.updatePriorityByIdAndVersion(id, 0L, Priority.NONE, Priority.HIGH, LocalDateTime.now());
+        int current = memoRepository.updatePriorityByIdAndVersion(id, 0L, Priority.LOW, Priority.MEDIUM, LocalDateTime.now());
+        int repeated = memoRepository.updatePriorityByIdAndVersion(id, 0L, Priority.LOW, Priority.HIGH, LocalDateTime.now());
+
+        assertEquals(0, stale);
+        assertEquals(0, wrongPriority);
+        assertEquals(1, current);
+        assertEquals(0, repeated);
+        Memo reloaded = memoRepository.findById(id).orElseThrow();
+        assertEquals(Priority.MEDIUM, reloaded.getPriority());
+        assertEquals(Priority.MEDIUM.getOrder(), reloaded.getPriorityRank());
+        assertEquals(1L, reloaded.getVersion());
+    }
+
+    @Test
+    void save_UpdatingStaleCopy_ShouldFailWithOptimisticLockingFailure() {
+        Memo memo = entityManager.persistAndFlush(testMemo);
+        entityManager.detach(memo);
+        memoRepository.updatePriorityByIdAndVersion(memo.getId(), 0L, memo.getPriority(), Priority.HIGH, LocalDateTime.now());
+
+        memo.setTitle("Stale edit");
+
+        assertThrows(OptimisticLockingFailureException.class, () -> memoRepository.saveAndFlush(memo));
+    }
+
+    @Test
+    void findByPrioritiesOrderByPriorityDescCreatedAtDesc_ShouldOrderByPriorityRankNotName() {
+        entityManager.persistAndFlush(new Memo("Low", "c", Priority.LOW));
+        entityManager.persistAndFlush(new Memo("High", "c", Priority.HIGH));
+        entityManager.persistAndFlush(new Memo("Medium", "c", Priority.MEDIUM));
+        entityManager.persistAndFlush(new Memo("None", "c", Priority.NONE));
+
+        List<MemoSummary> memos = memoRepository.findByPrioritiesOrderByPriorityDescCreatedAtDesc(
+                Arrays.asList(Priority.HIGH, Priority.MEDIUM, Priority.LOW));
+
+        assertEquals(3, memos.size());
+        assertEquals(Priority.HIGH, memos.get(0).getPriority());
+        assertEquals(Priority.MEDIUM, memos.get(1).getPriority());
+        assertEquals(Priority.LOW, memos.get(2).getPriority());
+    }
+
+    @Test
+    void updatePriorityByIdIn_ShouldKeepPriorityRankInSync() {
+        Memo memo = entityManager.persistAndFlush(new Memo("Memo", "c", Priority.LOW));
+        assertEquals(Priority.LOW.getOrder(), memo.getPriorityRank());
+
+        memoRepository.updatePriorityByIdIn(List.of(memo.getId()), Priority.HIGH, LocalDateTime.now());
+
+        assertEquals(Priority.HIGH.getOrder(), memoRepository.findById(memo.getId()).orElseThrow().getPriorityRank());
+    }
+
+    @Test
+    void findChangedAfter_ShouldPageByUpdatedAtThenId() {
+        Memo first = entityManager.persistAndFlush(new Memo("First", "c", Priority.LOW));
+        entityManager.persistAndFlush(new Memo("Second", "c", Priority.LOW));
+        entityManager.persistAndFlush(new Memo("Third", "c", Priority.LOW));
+        // Stored timestamps are rounded to microseconds; an unrounded value
+        // could sort just before its own stored copy
+        LocalDateTime later = LocalDateTime.now().plusHours(1).truncatedTo(ChronoUnit.MICROS);
+        memoRepository.updatePriorityByIdIn(List.of(first.getId()), Priority.HIGH, later);
+
+        List<Memo> all = memoRepository.findChangedAfter(LocalDateTime.of(1970, 1, 1, 0, 0), 0, PageRequest.of(0, 10));
+        List<Memo> afterFirstRow = memoRepository.findChangedAfter(
+                all.get(0).getUpdatedAt(), all.get(0).getId(), PageRequest.of(0, 10));
+
+        assertEquals(3, all.size());
+        assertEquals(first.getId(), all.get(2).getId());
+        assertEquals(List.of(all.get(1).getId(), first.getId()),
+                afterFirstRow.stream().map(Memo::getId).collect(Collectors.toList()));
+        assertTrue(memoRepository.findChangedAfter(later, first.getId(), PageRequest.of(0, 10)).isEmpty());
+    }
+}
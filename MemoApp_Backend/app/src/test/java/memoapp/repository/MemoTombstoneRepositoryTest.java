@@ -0,0 +1,59 @@
+package memoapp.repository;
+
+import memoapp.entity.MemoTombstone;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@org.springframework.test.context.ActiveProfiles("test")
+class MemoTombstoneRepositoryTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private MemoTombstoneRepository tombstoneRepository;
+
+    @Test
+    void save_NewTombstone_ShouldPersistInsteadOfMerging() {
+        MemoTombstone tombstone = new MemoTombstone(5L, NOON);
+
+        MemoTombstone saved = tombstoneRepository.saveAndFlush(tombstone);
+
+        // merge would return a managed copy after selecting the row by ID
+        assertSame(tombstone, saved);
+        assertFalse(saved.isNew());
+        assertTrue(tombstoneRepository.findById(5L).isPresent());
+    }
+
+    @Test
+    void findDeletedAfter_ShouldPageByDeletedAtThenMemoId() {
+        tombstoneRepository.saveAllAndFlush(List.of(
+                new MemoTombstone(3L, NOON),
+                new MemoTombstone(1L, NOON),
+                new MemoTombstone(2L, NOON.plusMinutes(1))));
+
+        List<MemoTombstone> afterFirst = tombstoneRepository.findDeletedAfter(NOON, 1L, PageRequest.of(0, 10));
+
+        assertEquals(List.of(3L, 2L), afterFirst.stream().map(MemoTombstone::getMemoId).toList());
+        assertEquals(1, tombstoneRepository.findDeletedAfter(NOON, 0L, PageRequest.of(0, 1)).size());
+    }
+
+    @Test
+    void deleteByDeletedAtBefore_ShouldOnlyRemoveOlderTombstones() {
+        tombstoneRepository.saveAllAndFlush(List.of(
+                new MemoTombstone(1L, NOON.minusDays(40)),
+                new MemoTombstone(2L, NOON)));
+
+        int purged = tombstoneRepository.deleteByDeletedAtBefore(NOON.minusDays(30));
+
+        assertEquals(1, purged);
+        assertEquals(List.of(2L), tombstoneRepository.findAll().stream().map(MemoTombstone::getMemoId).toList());
+    }
+}
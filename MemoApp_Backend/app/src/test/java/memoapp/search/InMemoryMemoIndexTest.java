@@ -0,0 +1,153 @@
+package memoapp.search;
+
+import memoapp.dto.MemoSuggestion;
+import memoapp.dto.SearchIndexStatistics;
+import memoapp.entity.Memo;
+import memoapp.entity.Priority;
+import memoapp.event.MemoChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the in-memory memo index, fed directly with change events.
+ */
+class InMemoryMemoIndexTest {
+
+    private InMemoryMemoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryMemoIndex(null, null);
+        index.onMemoChanged(MemoChangeEvent.created(memo(1L, "Team meeting", "Agenda and notes", Priority.HIGH)));
+        index.onMemoChanged(MemoChangeEvent.created(memo(2L, "Grocery list", "Milk, eggs, notebook", Priority.LOW)));
+        index.onMemoChanged(MemoChangeEvent.created(memo(3L, "Meeting notes", "Follow-up items", Priority.MEDIUM)));
+    }
+
+    @Test
+    void search_WithPrefix_ShouldMatchNewestFirst() {
+        List<MemoSuggestion> results = index.search("meet", null, 10);
+
+        assertEquals(List.of(3L, 1L), ids(results));
+        assertEquals("Meeting notes", results.get(0).getTitle());
+    }
+
+    @Test
+    void search_WithMultipleTerms_ShouldRequireAllTerms() {
+        assertEquals(List.of(3L, 1L), ids(index.search("meeting no", null, 10)));
+        assertEquals(List.of(2L), ids(index.search("milk NOTE", null, 10)));
+        assertTrue(index.search("milk meeting", null, 10).isEmpty());
+    }
+
+    @Test
+    void search_WithPriorityFilter_ShouldOnlyReturnMatchingPriorities() {
+        assertEquals(List.of(1L), ids(index.search("notes", List.of(Priority.HIGH), 10)));
+        assertEquals(List.of(2L), ids(index.search("note", List.of(Priority.LOW, Priority.NONE), 10)));
+    }
+
+    @Test
+    void search_WithDuplicatedPriority_ShouldStillFilter() {
+        List<Priority> priorities = List.of(Priority.HIGH, Priority.HIGH, Priority.HIGH, Priority.HIGH);
+
+        assertEquals(List.of(1L), ids(index.search("notes", priorities, 10)));
+    }
+
+    @Test
+    void search_ShouldRespectLimit() {
+        assertEquals(List.of(3L), ids(index.search("no", null, 1)));
+    }
+
+    @Test
+    void search_WithBlankQuery_ShouldReturnEmpty() {
+        assertTrue(index.search("  -- ", null, 10).isEmpty());
+    }
+
+    @Test
+    void onMemoChanged_WhenUpdated_ShouldReplaceOldTerms() {
+        index.onMemoChanged(MemoChangeEvent.updated(memo(1L, "Standup", "Daily sync", Priority.HIGH)));
+
+        assertEquals(List.of(3L), ids(index.search("meeting", null, 10)));
+        assertEquals(List.of(1L), ids(index.search("stand", null, 10)));
+    }
+
+    @Test
+    void onMemoChanged_WhenPriorityChanged_ShouldUpdateFilter() {
+        index.onMemoChanged(MemoChangeEvent.priorityChanged(2L, Priority.HIGH, LocalDateTime.now(), 1L));
+
+        List<MemoSuggestion> results = index.search("grocery", List.of(Priority.HIGH), 10);
+        assertEquals(List.of(2L), ids(results));
+        assertEquals(Priority.HIGH, results.get(0).getPriority());
+        assertTrue(index.search("grocery", List.of(Priority.LOW), 10).isEmpty());
+    }
+
+    @Test
+    void onMemoChanged_WhenDeleted_ShouldRemoveMemoAndUnusedTerms() {
+        int termsBefore = index.getStatistics().getTermCount();
+
+        index.onMemoChanged(MemoChangeEvent.deleted(memo(2L, "Grocery list", "Milk, eggs, notebook", Priority.LOW)));
+
+        assertTrue(index.search("grocery", null, 10).isEmpty());
+        SearchIndexStatistics statistics = index.getStatistics();
+        assertEquals(2, statistics.getDocumentCount());
+        assertEquals(termsBefore - 5, statistics.getTermCount());
+    }
+
+    @Test
+    void getStatistics_ShouldReportSizeAndFootprint() {
+        SearchIndexStatistics statistics = index.getStatistics();
+
+        assertEquals(3, statistics.getDocumentCount());
+        // team, meeting, agenda, and, notes, grocery, list, milk, eggs, notebook, follow, up, items
+        assertEquals(13, statistics.getTermCount());
+        assertEquals(15, statistics.getPostingCount());
+        assertTrue(statistics.getEstimatedBytes() > 0);
+    }
+
+    @Test
+    void tokenize_ShouldLowercaseAndSplitOnPunctuation() {
+        assertEquals(List.of("état", "v2", "notes"), InMemoryMemoIndex.tokenize("État, v2 -- notes notes!"));
+    }
+
+    @Test
+    void longPostingList_ShouldStaySortedAndDistinct() {
+        LongPostingList list = new LongPostingList();
+        list.add(5L);
+        list.add(1L);
+        list.add(9L);
+        assertFalse(list.add(5L));
+        assertTrue(list.remove(1L));
+        assertFalse(list.remove(1L));
+
+        assertArrayEquals(new long[] {5L, 9L}, list.toArray());
+        assertArrayEquals(new long[] {5L}, LongPostingList.intersect(list.toArray(), new long[] {2L, 5L}));
+    }
+
+    @Test
+    void longObjectHashMap_ShouldSurviveGrowthAndRemoval() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        for (long i = 0; i < 1000; i++) {
+            map.put(i * 31, "v" + i);
+        }
+        for (long i = 0; i < 1000; i += 2) {
+            assertEquals("v" + i, map.remove(i * 31));
+        }
+
+        assertEquals(500, map.size());
+        assertNull(map.get(0));
+        assertEquals("v999", map.get(999 * 31));
+    }
+
+    private static Memo memo(Long id, String title, String content, Priority priority) {
+        Memo memo = new Memo(title, content, priority);
+        memo.setId(id);
+        return memo;
+    }
+
+    private static List<Long> ids(List<MemoSuggestion> suggestions) {
+        return suggestions.stream().map(MemoSuggestion::getId).toList();
+    }
+}
@@ -0,0 +1,53 @@
+package memoapp.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongPostingListTest {
+
+    @Test
+    void union_ShouldMergeOverlappingListsInOrderWithoutDuplicates() {
+        List<LongPostingList> lists = List.of(
+                listOf(1, 4, 9), listOf(), listOf(2, 4, 10, 12), listOf(9), listOf(3, 12, 15));
+
+        assertArrayEquals(new long[] {1, 2, 3, 4, 9, 10, 12, 15}, LongPostingList.union(lists));
+    }
+
+    @Test
+    void union_WithNoOrSingleList_ShouldReturnItsIds() {
+        assertArrayEquals(new long[0], LongPostingList.union(List.of()));
+        assertArrayEquals(new long[0], LongPostingList.union(List.of(listOf())));
+        assertArrayEquals(new long[] {5, 7}, LongPostingList.union(List.of(listOf(7, 5))));
+    }
+
+    @Test
+    void union_WithManyLists_ShouldMatchSortedSetOfAllIds() {
+        List<LongPostingList> lists = new ArrayList<>();
+        TreeSet<Long> expected = new TreeSet<>();
+        for (int term = 1; term <= 50; term++) {
+            LongPostingList list = new LongPostingList();
+            for (long id = term; id <= 1000; id += term) {
+                list.add(id);
+                expected.add(id);
+            }
+            lists.add(list);
+        }
+
+        long[] merged = LongPostingList.union(lists);
+
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), merged);
+    }
+
+    private static LongPostingList listOf(long... ids) {
+        LongPostingList list = new LongPostingList();
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,221 @@
+package memoapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import memoapp.config.MemoProperties;
+import memoapp.dto.PriorityUpdateRequest;
+import memoapp.entity.IdempotencyRecord;
+import memoapp.entity.Memo;
+import memoapp.entity.Priority;
+import memoapp.exception.IdempotencyKeyConflictException;
+import memoapp.exception.MemoValidationException;
+import memoapp.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String ENDPOINT = "POST /api/memos";
+
+    @Mock
+    private IdempotencyRecordRepository recordRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private MemoProperties properties;
+
+    private IdempotencyService idempotencyService;
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        properties = new MemoProperties();
+        idempotencyService = new IdempotencyService(recordRepository, objectMapper, properties);
+    }
+
+    @Test
+    void execute_WithoutKey_ShouldRunActionEveryTime() {
+        Memo request = memo("Title");
+
+        idempotencyService.execute(null, ENDPOINT, request, Memo.class, this::createMemo);
+        idempotencyService.execute(null, ENDPOINT, request, Memo.class, this::createMemo);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_WithRepeatedKey_ShouldReplayStoredResponse() {
+        Memo request = memo("Title");
+
+        ResponseEntity<Memo> first = idempotencyService.execute("key-1", ENDPOINT, request, Memo.class, this::createMemo);
+        ResponseEntity<Memo> second = idempotencyService.execute("key-1", ENDPOINT, request, Memo.class, this::createMemo);
+
+        assertEquals(1, calls.get());
+        assertNull(first.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals("true", second.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals(first.getBody().getId(), second.getBody().getId());
+        assertEquals("Title", second.getBody().getTitle());
+        verifyNoInteractions(recordRepository);
+    }
+
+    @Test
+    void execute_WithSameKeyOnAnotherEndpoint_ShouldRunActionAgain() {
+        Memo request = memo("Title");
+
+        idempotencyService.execute("key-1", ENDPOINT, request, Memo.class, this::createMemo);
+        idempotencyService.execute("key-1", "POST /api/memos/bulk/priority", request, Memo.class, this::createMemo);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_WithRepeatedKeyAndDifferentBody_ShouldThrowPayloadMismatch() {
+        idempotencyService.execute("key-1", ENDPOINT, memo("Title"), Memo.class, this::createMemo);
+
+        IdempotencyKeyConflictException exception = assertThrows(IdempotencyKeyConflictException.class,
+                () -> idempotencyService.execute("key-1", ENDPOINT, memo("Other"), Memo.class, this::createMemo));
+
+        assertEquals(IdempotencyKeyConflictException.Reason.PAYLOAD_MISMATCH, exception.getReason());
+        assertEquals("key-1", exception.getIdempotencyKey());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_WhileFirstRequestIsRunning_ShouldThrowInProgress() {
+        Memo request = memo("Title");
+
+        IdempotencyKeyConflictException exception = assertThrows(IdempotencyKeyConflictException.class,
+                () -> idempotencyService.execute("key-1", ENDPOINT, request, Memo.class,
+                        () -> idempotencyService.execute("key-1", ENDPOINT, request, Memo.class, this::createMemo).getBody()));
+
+        assertEquals(IdempotencyKeyConflictException.Reason.IN_PROGRESS, exception.getReason());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void execute_WhenActionFails_ShouldAllowRetryWithSameKey() {
+        Memo request = memo("Title");
+
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute("key-1", ENDPOINT, request, Memo.class,
+                () -> {
+                    throw new IllegalStateException("database unavailable");
+                }));
+
+        ResponseEntity<Memo> retry = idempotencyService.execute("key-1", ENDPOINT, request, Memo.class, this::createMemo);
+
+        assertEquals(1, calls.get());
+        assertNull(retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+    }
+
+    @Test
+    void execute_WithInvalidKey_ShouldThrowValidationException() {
+        Memo request = memo("Title");
+        String tooLong = "k".repeat(IdempotencyService.MAX_KEY_LENGTH + 1);
+
+        assertThrows(MemoValidationException.class,
+                () -> idempotencyService.execute(" ", ENDPOINT, request, Memo.class, this::createMemo));
+        assertThrows(MemoValidationException.class,
+                () -> idempotencyService.execute(tooLong, ENDPOINT, request, Memo.class, this::createMemo));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void execute_WhenPersistent_ShouldStoreResponseAndReplayItFromTheTable() {
+        properties.getIdempotency().setPersistent(true);
+        idempotencyService = new IdempotencyService(recordRepository, objectMapper, properties);
+        PriorityUpdateRequest request = new PriorityUpdateRequest(Priority.HIGH);
+        when(recordRepository.findById(ENDPOINT + " key-1")).thenReturn(Optional.empty());
+
+        idempotencyService.execute("key-1", ENDPOINT, request, Memo.class, this::createMemo);
+
+        ArgumentCaptor<IdempotencyRecord> saved = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(recordRepository).save(saved.capture());
+        assertEquals(ENDPOINT + " key-1", saved.getValue().getIdempotencyKey());
+        assertEquals(200, saved.getValue().getResponseStatus());
+
+        // A fresh instance has an empty cache, as after a restart or on another node
+        IdempotencyService restarted = new IdempotencyService(recordRepository, objectMapper, properties);
+        when(recordRepository.findById(ENDPOINT + " key-1")).thenReturn(Optional.of(saved.getValue()));
+
+        ResponseEntity<Memo> replayed = restarted.execute("key-1", ENDPOINT, request, Memo.class, this::createMemo);
+
+        assertEquals(1, calls.get());
+        assertEquals("true", replayed.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals(1L, replayed.getBody().getId());
+    }
+
+    @Test
+    void execute_WhenPersistentRecordHasExpired_ShouldRunActionAgain() {
+        properties.getIdempotency().setPersistent(true);
+        properties.getIdempotency().setTimeToLive(Duration.ofHours(1));
+        idempotencyService = new IdempotencyService(recordRepository, objectMapper, properties);
+        IdempotencyRecord expired = new IdempotencyRecord(ENDPOINT + " key-1", "hash", 200, "{}",
+                LocalDateTime.now().minusHours(2));
+        when(recordRepository.findById(ENDPOINT + " key-1")).thenReturn(Optional.of(expired));
+
+        idempotencyService.execute("key-1", ENDPOINT, memo("Title"), Memo.class, this::createMemo);
+
+        assertEquals(1, calls.get());
+        verify(recordRepository).save(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void execute_WhenAnotherInstanceStoredTheKeyFirst_ShouldReplayItsResponse() {
+        properties.getIdempotency().setPersistent(true);
+        idempotencyService = new IdempotencyService(recordRepository, objectMapper, properties);
+        PriorityUpdateRequest request = new PriorityUpdateRequest(Priority.HIGH);
+        when(recordRepository.findById(ENDPOINT + " key-1")).thenReturn(Optional.empty());
+        when(recordRepository.save(any(IdempotencyRecord.class))).thenAnswer(invocation -> {
+            // Meanwhile another instance ran the same request and stored memo 7
+            IdempotencyRecord mine = invocation.getArgument(0);
+            IdempotencyRecord other = new IdempotencyRecord(mine.getIdempotencyKey(), mine.getRequestHash(), 200,
+                    "{\"id\":7,\"title\":\"Title\"}", LocalDateTime.now());
+            when(recordRepository.findById(ENDPOINT + " key-1")).thenReturn(Optional.of(other));
+            throw new DataIntegrityViolationException("duplicate key");
+        });
+
+        ResponseEntity<Memo> response = idempotencyService.execute("key-1", ENDPOINT, request, Memo.class, this::createMemo);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("true", response.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals(7L, response.getBody().getId());
+    }
+
+    @Test
+    void purgeExpiredRecords_WhenNotPersistent_ShouldNotTouchTheTable() {
+        assertEquals(0, idempotencyService.purgeExpiredRecords());
+
+        verifyNoInteractions(recordRepository);
+    }
+
+    private Memo createMemo() {
+        Memo created = new Memo();
+        created.setId((long) calls.incrementAndGet());
+        created.setTitle("Title");
+        created.setContent("Content");
+        return created;
+    }
+
+    private Memo memo(String title) {
+        Memo memo = new Memo();
+        memo.setTitle(title);
+        memo.setContent("Content");
+        return memo;
+    }
+}
@@ -0,0 +1,110 @@
+package memoapp.service;
+
+import memoapp.config.MemoProperties;
+import memoapp.entity.Memo;
+import memoapp.entity.Priority;
+import memoapp.event.MemoChangeEvent;
+import memoapp.repository.MemoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MemoChangeTrackerTest {
+
+    private final MemoChangeTracker changeTracker = new MemoChangeTracker(new MemoProperties());
+
+    @Test
+    void onMemoChanged_ShouldBumpVersionAndETag() {
+        String before = changeTracker.getETag();
+
+        changeTracker.onMemoChanged(MemoChangeEvent.priorityChanged(1L, Priority.HIGH, LocalDateTime.now(), 1L));
+
+        assertEquals(1, changeTracker.getVersion());
+        assertNotEquals(before, changeTracker.getETag());
+        assertTrue(changeTracker.getETag().startsWith("\"") && changeTracker.getETag().endsWith("\""));
+    }
+
+    @Test
+    void isTableETagEnabled_ShouldDefaultToOff() {
+        MemoProperties properties = new MemoProperties();
+        assertFalse(new MemoChangeTracker(properties).isTableETagEnabled());
+
+        properties.getEtag().setTableWide(true);
+
+        assertTrue(new MemoChangeTracker(properties).isTableETagEnabled());
+    }
+
+    @Test
+    void onMemoChanged_ShouldRunAfterStatisticsAdjustments() {
+        MemoRepository memoRepository = mock(MemoRepository.class);
+        when(memoRepository.countGroupByPriority()).thenReturn(List.of());
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(TransactionalEventListenerFactory.class);
+            context.registerBean(MemoRepository.class, () -> memoRepository);
+            context.registerBean(MemoProperties.class);
+            context.register(MemoChangeTracker.class, PriorityStatisticsCache.class);
+            context.refresh();
+            MemoChangeTracker tracker = context.getBean(MemoChangeTracker.class);
+            PriorityStatisticsCache statisticsCache = context.getBean(PriorityStatisticsCache.class);
+            statisticsCache.getStatistics();
+
+            TransactionSynchronizationManager.initSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            try {
+                // Published before the adjustment is recorded, so registration
+                // order alone would bump the version first
+                context.publishEvent(MemoChangeEvent.priorityChanged(1L, Priority.HIGH, LocalDateTime.now(), 1L));
+                statisticsCache.recordCreated(Priority.HIGH);
+
+                for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                    synchronization.afterCommit();
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+                    if (tracker.getVersion() > 0) {
+                        assertEquals(1L, statisticsCache.getStatistics().getTotalMemos());
+                    }
+                }
+            } finally {
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertEquals(1, tracker.getVersion());
+        }
+    }
+
+    @Test
+    void getETag_ForMemo_ShouldNameVersionAndPriority() {
+        Memo memo = new Memo("Title", "Content", Priority.LOW);
+        memo.setId(5L);
+        memo.setVersion(3);
+        String first = changeTracker.getETag(memo);
+
+        memo.setVersion(4);
+
+        assertEquals("\"5-3-LOW\"", first);
+        assertNotEquals(first, changeTracker.getETag(memo));
+    }
+
+    @Test
+    void parseETag_ShouldOnlyAcceptStrongETagsOfTheSameMemo() {
+        MemoChangeTracker.MemoETag expected = new MemoChangeTracker.MemoETag(3, Priority.HIGH);
+        assertEquals(Optional.of(expected), changeTracker.parseETag("\"5-3-HIGH\"", 5L));
+        assertEquals(Optional.of(expected), changeTracker.parseETag(" \"5-3-HIGH\" ", 5L));
+        assertTrue(changeTracker.parseETag("\"6-3-HIGH\"", 5L).isEmpty());
+        assertTrue(changeTracker.parseETag("W/\"5-3-HIGH\"", 5L).isEmpty());
+        assertTrue(changeTracker.parseETag("\"5-3-HIGH\", \"5-4-HIGH\"", 5L).isEmpty());
+        assertTrue(changeTracker.parseETag("5-3-HIGH", 5L).isEmpty());
+        assertTrue(changeTracker.parseETag("\"5-3\"", 5L).isEmpty());
+        assertTrue(changeTracker.parseETag("\"5-3-URGENT\"", 5L).isEmpty());
+    }
+}
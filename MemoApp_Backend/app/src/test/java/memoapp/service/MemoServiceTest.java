@@ -1,18 +1,32 @@
 package memoapp.service;
 
+import memoapp.config.MemoProperties;
 import memoapp.dto.BulkPriorityUpdateRequest;
+import memoapp.dto.BulkPriorityUpdateResult;
+import memoapp.dto.MemoPage;
+import memoapp.dto.MemoPriorityView;
+import memoapp.dto.MemoSearchHit;
+import memoapp.dto.MemoSummary;
 import memoapp.dto.PriorityStatistics;
+import memoapp.dto.PriorityUpdateResult;
 import memoapp.entity.Memo;
 import memoapp.entity.Priority;
+import memoapp.event.MemoChangeEvent;
 import memoapp.exception.MemoNotFoundException;
 import memoapp.exception.MemoValidationException;
+import memoapp.exception.MemoVersionConflictException;
 import memoapp.repository.MemoRepository;
+import memoapp.repository.MemoTombstoneRepository;
+import memoapp.service.MemoChangeTracker.MemoETag;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -32,6 +46,21 @@ class MemoServiceTest {
     @Mock
     private MemoRepository memoRepository;
 
+    @Mock
+    private MemoTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private PriorityStatisticsCache statisticsCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MemoCache memoCache = new MemoCache(new MemoProperties());
+
+    @Spy
+    private MemoProperties properties = new MemoProperties();
+
     @InjectMocks
     private MemoService memoService;
 
@@ -55,29 +84,30 @@ class MemoServiceTest {
         memo2.setTitle("Second Memo");
         memo2.setContent("Second content");
         
-        List<Memo> expectedMemos = Arrays.asList(testMemo, memo2);
-        when(memoRepository.findAll()).thenReturn(expectedMemos);
+        List<MemoSummary> expectedMemos = Arrays.asList(MemoSummary.of(testMemo), MemoSummary.of(memo2));
+        when(memoRepository.findAllSummaries()).thenReturn(expectedMemos);
 
-        List<Memo> actualMemos = memoService.getAllMemos();
+        List<MemoSummary> actualMemos = memoService.getAllMemos();
 
         assertEquals(2, actualMemos.size());
         assertEquals(expectedMemos, actualMemos);
-        verify(memoRepository, times(1)).findAll();
+        verify(memoRepository, times(1)).findAllSummaries();
+        verify(memoRepository, never()).findAll();
     }
 
     @Test
     void getAllMemos_WhenNoMemos_ShouldReturnEmptyList() {
-        when(memoRepository.findAll()).thenReturn(Arrays.asList());
+        when(memoRepository.findAllSummaries()).thenReturn(Arrays.asList());
 
-        List<Memo> actualMemos = memoService.getAllMemos();
+        List<MemoSummary> actualMemos = memoService.getAllMemos();
 
         assertTrue(actualMemos.isEmpty());
-        verify(memoRepository, times(1)).findAll();
+        verify(memoRepository, times(1)).findAllSummaries();
     }
 
     @Test
     void getMemoById_WhenMemoExists_ShouldReturnMemo() {
-        when(memoRepository.findById(1L)).thenReturn(Optional.of(testMemo));
+        when(memoRepository.findWithContentById(1L)).thenReturn(Optional.of(testMemo));
 
         Memo actualMemo = memoService.getMemoById(1L);
 
@@ -85,19 +115,45 @@ class MemoServiceTest {
         assertEquals(testMemo.getId(), actualMemo.getId());
         assertEquals(testMemo.getTitle(), actualMemo.getTitle());
         assertEquals(testMemo.getContent(), actualMemo.getContent());
-        verify(memoRepository, times(1)).findById(1L);
+        verify(memoRepository, times(1)).findWithContentById(1L);
+    }
+
+    @Test
+    void getMemoById_WhenCalledTwice_ShouldServeSecondCallFromCache() {
+        when(memoRepository.findWithContentById(1L)).thenReturn(Optional.of(testMemo));
+
+        Memo first = memoService.getMemoById(1L);
+        Memo second = memoService.getMemoById(1L);
+
+        assertEquals("Test Memo", second.getTitle());
+        assertNotSame(first, second);
+        assertNotSame(testMemo, first);
+        verify(memoRepository, times(1)).findWithContentById(1L);
+        assertEquals(1, memoService.getCacheStatistics().getHitCount());
+        assertEquals(1, memoService.getCacheStatistics().getMissCount());
+    }
+
+    @Test
+    void getMemoById_AfterChangeEvent_ShouldReloadFromRepository() {
+        when(memoRepository.findWithContentById(1L)).thenReturn(Optional.of(testMemo));
+        memoService.getMemoById(1L);
+
+        memoCache.onMemoChanged(MemoChangeEvent.deleted(testMemo));
+        memoService.getMemoById(1L);
+
+        verify(memoRepository, times(2)).findWithContentById(1L);
     }
 
     @Test
     void getMemoById_WhenMemoDoesNotExist_ShouldThrowMemoNotFoundException() {
-        when(memoRepository.findById(999L)).thenReturn(Optional.empty());
+        when(memoRepository.findWithContentById(999L)).thenReturn(Optional.empty());
 
         MemoNotFoundException exception = assertThrows(MemoNotFoundException.class, () -> 
             memoService.getMemoById(999L));
 
         assertEquals(999L, exception.getMemoId());
         assertTrue(exception.getMessage().contains("999"));
-        verify(memoRepository, times(1)).findById(999L);
+        verify(memoRepository, times(1)).findWithContentById(999L);
     }
 
     @Test
@@ -107,7 +163,7 @@ class MemoServiceTest {
 
         assertTrue(exception.getMessage().contains("cannot be null"));
         assertEquals("id", exception.getFieldName());
-        verify(memoRepository, never()).findById(any());
+        verify(memoRepository, never()).findWithContentById(any());
     }
 
     @Test
@@ -117,7 +173,7 @@ class MemoServiceTest {
 
         assertTrue(exception.getMessage().contains("positive number"));
         assertEquals("id", exception.getFieldName());
-        verify(memoRepository, never()).findById(any());
+        verify(memoRepository, never()).findWithContentById(any());
     }
 
     @Test
@@ -206,7 +262,7 @@ class MemoServiceTest {
         updateData.setContent("Updated Content");
 
         when(memoRepository.findById(1L)).thenReturn(Optional.of(existingMemo));
-        when(memoRepository.save(any(Memo.class))).thenReturn(existingMemo);
+        when(memoRepository.saveAndFlush(any(Memo.class))).thenReturn(existingMemo);
 
         Memo result = memoService.updateMemo(1L, updateData);
 
@@ -214,7 +270,7 @@ class MemoServiceTest {
         assertEquals("Updated Title", result.getTitle());
         assertEquals("Updated Content", result.getContent());
         verify(memoRepository, times(1)).findById(1L);
-        verify(memoRepository, times(1)).save(existingMemo);
+        verify(memoRepository, times(1)).saveAndFlush(existingMemo);
     }
 
     @Test
@@ -230,29 +286,32 @@ class MemoServiceTest {
 
         assertEquals(999L, exception.getMemoId());
         verify(memoRepository, times(1)).findById(999L);
-        verify(memoRepository, never()).save(any());
+        verify(memoRepository, never()).saveAndFlush(any());
     }
 
     @Test
     void deleteMemo_WhenMemoExists_ShouldDeleteMemo() {
-        when(memoRepository.existsById(1L)).thenReturn(true);
+        when(memoRepository.findById(1L)).thenReturn(Optional.of(testMemo));
 
         assertDoesNotThrow(() -> memoService.deleteMemo(1L));
 
-        verify(memoRepository, times(1)).existsById(1L);
-        verify(memoRepository, times(1)).deleteById(1L);
+        verify(memoRepository, times(1)).findById(1L);
+        verify(memoRepository, times(1)).delete(testMemo);
+        verify(tombstoneRepository, times(1)).save(argThat(tombstone -> tombstone.getMemoId() == 1L));
+        verify(statisticsCache, times(1)).recordDeleted(Priority.MEDIUM);
     }
 
     @Test
     void deleteMemo_WhenMemoDoesNotExist_ShouldThrowMemoNotFoundException() {
-        when(memoRepository.existsById(999L)).thenReturn(false);
+        when(memoRepository.findById(999L)).thenReturn(Optional.empty());
 
         MemoNotFoundException exception = assertThrows(MemoNotFoundException.class, () -> 
             memoService.deleteMemo(999L));
 
         assertEquals(999L, exception.getMemoId());
-        verify(memoRepository, times(1)).existsById(999L);
-        verify(memoRepository, never()).deleteById(any());
+        verify(memoRepository, times(1)).findById(999L);
+        verify(memoRepository, never()).delete(any());
+        verify(statisticsCache, never()).recordDeleted(any());
     }
 
     @Test
@@ -261,8 +320,8 @@ class MemoServiceTest {
             memoService.deleteMemo(null));
 
         assertTrue(exception.getMessage().contains("cannot be null"));
-        verify(memoRepository, never()).existsById(any());
-        verify(memoRepository, never()).deleteById(any());
+        verify(memoRepository, never()).findById(any());
+        verify(memoRepository, never()).delete(any());
     }
 
     @Test
@@ -292,12 +351,12 @@ class MemoServiceTest {
     @Test
     void getMemosByPriority_WithValidPriorities_ShouldReturnFilteredMemos() {
         List<Priority> priorities = Arrays.asList(Priority.HIGH, Priority.MEDIUM);
-        List<Memo> expectedMemos = Arrays.asList(testMemo);
+        List<MemoSummary> expectedMemos = Arrays.asList(MemoSummary.of(testMemo));
         
         when(memoRepository.findByPrioritiesOrderByPriorityDescCreatedAtDesc(priorities))
                 .thenReturn(expectedMemos);
 
-        List<Memo> result = memoService.getMemosByPriority(priorities);
+        List<MemoSummary> result = memoService.getMemosByPriority(priorities);
 
         assertEquals(1, result.size());
         assertEquals(expectedMemos, result);
@@ -306,25 +365,25 @@ class MemoServiceTest {
 
     @Test
     void getMemosByPriority_WithNullPriorities_ShouldReturnAllMemos() {
-        List<Memo> allMemos = Arrays.asList(testMemo);
-        when(memoRepository.findAll()).thenReturn(allMemos);
+        List<MemoSummary> allMemos = Arrays.asList(MemoSummary.of(testMemo));
+        when(memoRepository.findAllSummaries()).thenReturn(allMemos);
 
-        List<Memo> result = memoService.getMemosByPriority(null);
+        List<MemoSummary> result = memoService.getMemosByPriority(null);
 
         assertEquals(allMemos, result);
-        verify(memoRepository, times(1)).findAll();
+        verify(memoRepository, times(1)).findAllSummaries();
         verify(memoRepository, never()).findByPrioritiesOrderByPriorityDescCreatedAtDesc(any());
     }
 
     @Test
     void getMemosByPriority_WithEmptyPriorities_ShouldReturnAllMemos() {
-        List<Memo> allMemos = Arrays.asList(testMemo);
-        when(memoRepository.findAll()).thenReturn(allMemos);
+        List<MemoSummary> allMemos = Arrays.asList(MemoSummary.of(testMemo));
+        when(memoRepository.findAllSummaries()).thenReturn(allMemos);
 
-        List<Memo> result = memoService.getMemosByPriority(new ArrayList<>());
+        List<MemoSummary> result = memoService.getMemosByPriority(new ArrayList<>());
 
         assertEquals(allMemos, result);
-        verify(memoRepository, times(1)).findAll();
+        verify(memoRepository, times(1)).findAllSummaries();
     }
 
     @Test
@@ -339,10 +398,10 @@ class MemoServiceTest {
 
     @Test
     void getMemosSortedByPriority_WithDescendingSort_ShouldReturnSortedMemos() {
-        List<Memo> sortedMemos = Arrays.asList(testMemo);
+        List<MemoSummary> sortedMemos = Arrays.asList(MemoSummary.of(testMemo));
         when(memoRepository.findAllOrderByPriorityDescCreatedAtDesc()).thenReturn(sortedMemos);
 
-        List<Memo> result = memoService.getMemosSortedByPriority("priority_desc");
+        List<MemoSummary> result = memoService.getMemosSortedByPriority("priority_desc");
 
         assertEquals(sortedMemos, result);
         verify(memoRepository, times(1)).findAllOrderByPriorityDescCreatedAtDesc();
@@ -350,10 +409,10 @@ class MemoServiceTest {
 
     @Test
     void getMemosSortedByPriority_WithAscendingSort_ShouldReturnSortedMemos() {
-        List<Memo> sortedMemos = Arrays.asList(testMemo);
+        List<MemoSummary> sortedMemos = Arrays.asList(MemoSummary.of(testMemo));
         when(memoRepository.findAllOrderByPriorityAscCreatedAtDesc()).thenReturn(sortedMemos);
 
-        List<Memo> result = memoService.getMemosSortedByPriority("priority_asc");
+        List<MemoSummary> result = memoService.getMemosSortedByPriority("priority_asc");
 
         assertEquals(sortedMemos, result);
         verify(memoRepository, times(1)).findAllOrderByPriorityAscCreatedAtDesc();
@@ -370,26 +429,27 @@ class MemoServiceTest {
 
     @Test
     void getMemosSortedByPriority_WithNullSort_ShouldReturnAllMemos() {
-        List<Memo> allMemos = Arrays.asList(testMemo);
-        when(memoRepository.findAll()).thenReturn(allMemos);
+        List<MemoSummary> allMemos = Arrays.asList(MemoSummary.of(testMemo));
+        when(memoRepository.findAllSummaries()).thenReturn(allMemos);
 
-        List<Memo> result = memoService.getMemosSortedByPriority(null);
+        List<MemoSummary> result = memoService.getMemosSortedByPriority(null);
 
         assertEquals(allMemos, result);
-        verify(memoRepository, times(1)).findAll();
+        verify(memoRepository, times(1)).findAllSummaries();
     }
 
     @Test
     void updateMemoPriority_WithValidData_ShouldUpdatePriority() {
         when(memoRepository.findById(1L)).thenReturn(Optional.of(testMemo));
-        when(memoRepository.save(any(Memo.class))).thenReturn(testMemo);
+        when(memoRepository.saveAndFlush(any(Memo.class))).thenReturn(testMemo);
 
-        Memo result = memoService.updateMemoPriority(1L, Priority.HIGH);
+        PriorityUpdateResult result = memoService.updateMemoPriority(1L, Priority.HIGH);
 
-        assertNotNull(result);
+        assertEquals(1L, result.getId());
+        assertEquals(Priority.HIGH, result.getPriority());
         assertEquals(Priority.HIGH, testMemo.getPriority());
         verify(memoRepository, times(1)).findById(1L);
-        verify(memoRepository, times(1)).save(testMemo);
+        verify(memoRepository, times(1)).saveAndFlush(testMemo);
     }
 
     @Test
@@ -399,7 +459,7 @@ class MemoServiceTest {
 
         assertTrue(exception.getMessage().contains("Priority cannot be null"));
         assertEquals("priority", exception.getFieldName());
-        verify(memoRepository, never()).save(any());
+        verify(memoRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -410,36 +470,124 @@ class MemoServiceTest {
                 memoService.updateMemoPriority(999L, Priority.HIGH));
 
         assertEquals(999L, exception.getMemoId());
-        verify(memoRepository, never()).save(any());
+        verify(memoRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void updateMemo_WithStaleVersion_ShouldThrowVersionConflictException() {
+        testMemo.setVersion(3L);
+        Memo updateData = new Memo("Updated Title", "Updated content", Priority.HIGH);
+        when(memoRepository.findById(1L)).thenReturn(Optional.of(testMemo));
+
+        MemoVersionConflictException exception = assertThrows(MemoVersionConflictException.class, () -> 
+                memoService.updateMemo(1L, updateData, 2L));
+
+        assertEquals(1L, exception.getMemoId());
+        assertEquals(2L, exception.getExpectedVersion());
+        assertEquals("Test Memo", testMemo.getTitle());
+        verify(memoRepository, never()).saveAndFlush(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void updateMemoPriority_WithExpectedVersion_ShouldUseSingleConditionalUpdate() {
+        when(memoRepository.updatePriorityByIdAndVersion(
+                eq(1L), eq(4L), eq(Priority.LOW), eq(Priority.HIGH), any(LocalDateTime.class))).thenReturn(1);
+
+        PriorityUpdateResult result = memoService.updateMemoPriority(1L, Priority.HIGH, new MemoETag(4L, Priority.LOW));
+
+        assertEquals(1L, result.getId());
+        assertEquals(Priority.HIGH, result.getPriority());
+        assertEquals(5L, result.getVersion());
+        verify(memoRepository, times(1)).updatePriorityByIdAndVersion(any(), anyLong(), any(), any(), any());
+        verifyNoMoreInteractions(memoRepository);
+        verify(statisticsCache, times(1)).recordPriorityChanged(Priority.LOW, Priority.HIGH);
+        ArgumentCaptor<MemoChangeEvent> event = ArgumentCaptor.forClass(MemoChangeEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertEquals(5L, event.getValue().getVersion());
+    }
+
+    @Test
+    void updateMemoPriority_WithStaleVersion_ShouldThrowVersionConflictException() {
+        when(memoRepository.updatePriorityByIdAndVersion(
+                eq(1L), eq(4L), eq(Priority.LOW), eq(Priority.HIGH), any(LocalDateTime.class))).thenReturn(0);
+        when(memoRepository.existsById(1L)).thenReturn(true);
+
+        MemoVersionConflictException exception = assertThrows(MemoVersionConflictException.class, () -> 
+                memoService.updateMemoPriority(1L, Priority.HIGH, new MemoETag(4L, Priority.LOW)));
+
+        assertEquals(4L, exception.getExpectedVersion());
+        verify(statisticsCache, never()).recordPriorityChanged(any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void updateMemoPriority_WithExpectedVersionForMissingMemo_ShouldThrowNotFoundException() {
+        when(memoRepository.existsById(999L)).thenReturn(false);
+
+        assertThrows(MemoNotFoundException.class, () -> 
+                memoService.updateMemoPriority(999L, Priority.HIGH, new MemoETag(4L, Priority.LOW)));
     }
 
     @Test
     void bulkUpdatePriority_WithValidData_ShouldUpdateAllMemos() {
-        List<Long> memoIds = Arrays.asList(1L, 2L, 3L);
+        List<Long> memoIds = Arrays.asList(3L, 1L, 2L);
         BulkPriorityUpdateRequest request = new BulkPriorityUpdateRequest(memoIds, Priority.HIGH);
-        
-        Memo memo1 = new Memo("Title 1", "Content 1");
-        memo1.setId(1L);
-        Memo memo2 = new Memo("Title 2", "Content 2");
-        memo2.setId(2L);
-        Memo memo3 = new Memo("Title 3", "Content 3");
-        memo3.setId(3L);
-        
-        List<Memo> memos = Arrays.asList(memo1, memo2, memo3);
+        List<Long> sortedIds = Arrays.asList(1L, 2L, 3L);
 
-        when(memoRepository.existsById(1L)).thenReturn(true);
-        when(memoRepository.existsById(2L)).thenReturn(true);
-        when(memoRepository.existsById(3L)).thenReturn(true);
-        when(memoRepository.findAllById(memoIds)).thenReturn(memos);
-        when(memoRepository.saveAll(memos)).thenReturn(memos);
+        when(memoRepository.lockPrioritiesByIdIn(sortedIds)).thenReturn(Arrays.asList(
+                priorityView(1L, Priority.LOW), priorityView(2L, Priority.NONE), priorityView(3L, Priority.HIGH)));
+        when(memoRepository.updatePriorityByIdIn(eq(sortedIds), eq(Priority.HIGH), any(LocalDateTime.class))).thenReturn(3);
 
-        List<Memo> result = memoService.bulkUpdatePriority(request);
+        BulkPriorityUpdateResult result = memoService.bulkUpdatePriority(request);
 
-        assertEquals(3, result.size());
-        for (Memo memo : memos) {
-            assertEquals(Priority.HIGH, memo.getPriority());
-        }
-        verify(memoRepository, times(1)).saveAll(memos);
+        assertEquals(3, result.getUpdatedCount());
+        assertEquals(sortedIds, result.getMemoIds());
+        assertEquals(Priority.HIGH, result.getPriority());
+        verify(memoRepository, never()).existsById(any());
+        verify(memoRepository, never()).saveAll(any());
+        verify(statisticsCache).recordPriorityChanged(Priority.LOW, Priority.HIGH);
+        verify(statisticsCache).recordPriorityChanged(Priority.NONE, Priority.HIGH);
+        ArgumentCaptor<MemoChangeEvent> events = ArgumentCaptor.forClass(MemoChangeEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        assertEquals(List.of(11L, 21L, 31L), events.getAllValues().stream().map(MemoChangeEvent::getVersion).toList());
+    }
+
+    @Test
+    void applyPriorityChanges_ShouldUpdateEachTargetPriorityAndSkipDeletedMemos() {
+        Map<Long, Priority> changes = Map.of(3L, Priority.HIGH, 1L, Priority.HIGH, 2L, Priority.LOW, 4L, Priority.LOW);
+
+        when(memoRepository.lockPrioritiesByIdIn(Arrays.asList(1L, 2L, 3L, 4L))).thenReturn(Arrays.asList(
+                priorityView(1L, Priority.LOW), priorityView(2L, Priority.NONE), priorityView(3L, Priority.MEDIUM)));
+        when(memoRepository.updatePriorityByIdIn(eq(Arrays.asList(1L, 3L)), eq(Priority.HIGH), any(LocalDateTime.class))).thenReturn(2);
+        when(memoRepository.updatePriorityByIdIn(eq(Arrays.asList(2L)), eq(Priority.LOW), any(LocalDateTime.class))).thenReturn(1);
+
+        int updated = memoService.applyPriorityChanges(changes);
+
+        assertEquals(3, updated);
+        verify(statisticsCache).recordPriorityChanged(Priority.LOW, Priority.HIGH);
+        verify(statisticsCache).recordPriorityChanged(Priority.MEDIUM, Priority.HIGH);
+        verify(statisticsCache).recordPriorityChanged(Priority.NONE, Priority.LOW);
+        verify(eventPublisher, times(3)).publishEvent(any(MemoChangeEvent.class));
+    }
+
+    @Test
+    void bulkUpdatePriority_ShouldSplitStatementsIntoConfiguredChunks() {
+        properties.getBulk().setChunkSize(2);
+        List<Long> memoIds = Arrays.asList(1L, 2L, 3L);
+        BulkPriorityUpdateRequest request = new BulkPriorityUpdateRequest(memoIds, Priority.LOW);
+
+        when(memoRepository.lockPrioritiesByIdIn(Arrays.asList(1L, 2L)))
+                .thenReturn(Arrays.asList(priorityView(1L, Priority.HIGH), priorityView(2L, Priority.HIGH)));
+        when(memoRepository.lockPrioritiesByIdIn(Arrays.asList(3L)))
+                .thenReturn(Arrays.asList(priorityView(3L, Priority.HIGH)));
+        when(memoRepository.updatePriorityByIdIn(eq(Arrays.asList(1L, 2L)), eq(Priority.LOW), any())).thenReturn(2);
+        when(memoRepository.updatePriorityByIdIn(eq(Arrays.asList(3L)), eq(Priority.LOW), any())).thenReturn(1);
+
+        BulkPriorityUpdateResult result = memoService.bulkUpdatePriority(request);
+
+        assertEquals(3, result.getUpdatedCount());
+        verify(memoRepository, times(2)).updatePriorityByIdIn(any(), eq(Priority.LOW), any());
     }
 
     @Test
@@ -462,6 +610,7 @@ class MemoServiceTest {
 
     @Test
     void bulkUpdatePriority_WithTooManyMemos_ShouldThrowException() {
+        properties.getBulk().setMaxSize(100);
         List<Long> tooManyIds = new ArrayList<>();
         for (long i = 1; i <= 101; i++) {
             tooManyIds.add(i);
@@ -474,49 +623,268 @@ class MemoServiceTest {
         assertTrue(exception.getMessage().contains("more than 100 memos"));
     }
 
+    @Test
+    void bulkUpdatePriority_WithMoreThanOneHundredMemos_ShouldBeAllowedByDefault() {
+        List<Long> ids = new ArrayList<>();
+        List<MemoPriorityView> rows = new ArrayList<>();
+        for (long i = 1; i <= 250; i++) {
+            ids.add(i);
+            rows.add(priorityView(i, Priority.NONE));
+        }
+        BulkPriorityUpdateRequest request = new BulkPriorityUpdateRequest(ids, Priority.MEDIUM);
+
+        when(memoRepository.lockPrioritiesByIdIn(ids)).thenReturn(rows);
+        when(memoRepository.updatePriorityByIdIn(eq(ids), eq(Priority.MEDIUM), any())).thenReturn(250);
+
+        BulkPriorityUpdateResult result = memoService.bulkUpdatePriority(request);
+
+        assertEquals(250, result.getUpdatedCount());
+    }
+
     @Test
     void bulkUpdatePriority_WithNonExistentMemo_ShouldThrowNotFoundException() {
         List<Long> memoIds = Arrays.asList(1L, 999L);
         BulkPriorityUpdateRequest request = new BulkPriorityUpdateRequest(memoIds, Priority.HIGH);
 
-        when(memoRepository.existsById(1L)).thenReturn(true);
-        when(memoRepository.existsById(999L)).thenReturn(false);
+        when(memoRepository.lockPrioritiesByIdIn(memoIds)).thenReturn(Arrays.asList(priorityView(1L, Priority.LOW)));
 
         MemoNotFoundException exception = assertThrows(MemoNotFoundException.class, () -> 
                 memoService.bulkUpdatePriority(request));
 
         assertEquals(999L, exception.getMemoId());
-        verify(memoRepository, never()).saveAll(any());
+        verify(memoRepository, never()).updatePriorityByIdIn(any(), any(), any());
     }
 
     @Test
-    void getPriorityStatistics_ShouldReturnCorrectStatistics() {
-        when(memoRepository.countByPriority(Priority.HIGH)).thenReturn(3L);
-        when(memoRepository.countByPriority(Priority.MEDIUM)).thenReturn(5L);
-        when(memoRepository.countByPriority(Priority.LOW)).thenReturn(2L);
-        when(memoRepository.countByPriority(Priority.NONE)).thenReturn(1L);
-        when(memoRepository.count()).thenReturn(11L);
+    void getPriorityStatistics_ShouldReturnCachedStatistics() {
+        Map<Priority, Long> priorityCounts = new EnumMap<>(Priority.class);
+        priorityCounts.put(Priority.MEDIUM, 5L);
+        PriorityStatistics statistics = new PriorityStatistics(priorityCounts, 5L, Priority.MEDIUM);
+        when(statisticsCache.getStatistics()).thenReturn(statistics);
 
         PriorityStatistics result = memoService.getPriorityStatistics();
 
-        assertNotNull(result);
-        assertEquals(11L, result.getTotalMemos());
-        assertEquals(Priority.MEDIUM, result.getMostCommonPriority());
-        assertEquals(3L, result.getPriorityCounts().get(Priority.HIGH));
-        assertEquals(5L, result.getPriorityCounts().get(Priority.MEDIUM));
-        assertEquals(2L, result.getPriorityCounts().get(Priority.LOW));
-        assertEquals(1L, result.getPriorityCounts().get(Priority.NONE));
+        assertSame(statistics, result);
+        verify(memoRepository, never()).countByPriority(any());
+        verify(memoRepository, never()).count();
     }
 
     @Test
-    void getPriorityStatistics_WithNoCounts_ShouldReturnNoneAsMostCommon() {
-        when(memoRepository.countByPriority(any(Priority.class))).thenReturn(0L);
-        when(memoRepository.count()).thenReturn(0L);
+    void updateMemoPriority_ShouldRecordPriorityChangeInStatistics() {
+        when(memoRepository.findById(1L)).thenReturn(Optional.of(testMemo));
+        when(memoRepository.saveAndFlush(any(Memo.class))).thenReturn(testMemo);
 
-        PriorityStatistics result = memoService.getPriorityStatistics();
+        memoService.updateMemoPriority(1L, Priority.HIGH);
 
-        assertNotNull(result);
-        assertEquals(0L, result.getTotalMemos());
-        assertEquals(Priority.NONE, result.getMostCommonPriority());
+        verify(statisticsCache, times(1)).recordPriorityChanged(Priority.MEDIUM, Priority.HIGH);
+    }
+
+    @Test
+    void createMemo_ShouldRecordCreationInStatistics() {
+        Memo newMemo = new Memo("New Memo", "New content", Priority.LOW);
+        when(memoRepository.save(newMemo)).thenReturn(newMemo);
+
+        memoService.createMemo(newMemo);
+
+        verify(statisticsCache, times(1)).recordCreated(Priority.LOW);
+    }
+
+    @Test
+    void updateMemo_ShouldPublishChangeEventWithNewContent() {
+        Memo updatedMemo = new Memo("Updated Title", "Updated content", Priority.HIGH);
+        when(memoRepository.findById(1L)).thenReturn(Optional.of(testMemo));
+        when(memoRepository.saveAndFlush(any(Memo.class))).thenReturn(testMemo);
+
+        memoService.updateMemo(1L, updatedMemo);
+
+        ArgumentCaptor<MemoChangeEvent> captor = ArgumentCaptor.forClass(MemoChangeEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertEquals(MemoChangeEvent.Type.UPDATED, captor.getValue().getType());
+        assertEquals(1L, captor.getValue().getMemoId());
+        assertEquals("Updated Title", captor.getValue().getTitle());
+        assertEquals(Priority.HIGH, captor.getValue().getPriority());
+    }
+
+    @Test
+    void deleteMemo_ShouldPublishDeletedEvent() {
+        when(memoRepository.findById(1L)).thenReturn(Optional.of(testMemo));
+
+        memoService.deleteMemo(1L);
+
+        ArgumentCaptor<MemoChangeEvent> captor = ArgumentCaptor.forClass(MemoChangeEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertEquals(MemoChangeEvent.Type.DELETED, captor.getValue().getType());
+        assertEquals(1L, captor.getValue().getMemoId());
+    }
+
+    @Test
+    void getMemoPage_WhenMoreRowsThanPageSize_ShouldReturnNextCursor() {
+        Memo memo2 = new Memo("Second Memo", "Second content", Priority.LOW);
+        memo2.setId(2L);
+        memo2.setCreatedAt(LocalDateTime.now());
+        Memo memo3 = new Memo("Third Memo", "Third content", Priority.LOW);
+        memo3.setId(3L);
+        memo3.setCreatedAt(LocalDateTime.now());
+
+        when(memoRepository.findPageOrderByPriorityDesc(anyList(), anyInt(), any(), anyLong(), any()))
+                .thenReturn(Arrays.asList(MemoSummary.of(testMemo), MemoSummary.of(memo2), MemoSummary.of(memo3)));
+
+        MemoPage<MemoSummary> page = memoService.getMemoPage(null, null, null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasNext());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void getMemoPage_WithCursor_ShouldContinueAfterCursorPosition() {
+        Memo last = new Memo("Last", "Content", Priority.LOW);
+        last.setId(7L);
+        last.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        String cursor = MemoCursor.after(MemoSummary.of(last)).encode();
+
+        when(memoRepository.findPageOrderByPriorityAsc(anyList(), anyInt(), any(), anyLong(), any()))
+                .thenReturn(Arrays.asList(MemoSummary.of(testMemo)));
+
+        MemoPage<MemoSummary> page = memoService.getMemoPage(Arrays.asList(Priority.LOW, Priority.MEDIUM), "priority_asc", cursor, 10);
+
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasNext());
+        verify(memoRepository).findPageOrderByPriorityAsc(
+                eq(Arrays.asList(Priority.LOW, Priority.MEDIUM)),
+                eq(Priority.LOW.getOrder()),
+                eq(LocalDateTime.of(2024, 1, 1, 12, 0)),
+                eq(7L),
+                any());
+    }
+
+    @Test
+    void getMemoPage_WithMalformedCursor_ShouldThrowException() {
+        MemoValidationException exception = assertThrows(MemoValidationException.class, () ->
+                memoService.getMemoPage(null, null, "not-a-cursor", 10));
+
+        assertEquals("cursor", exception.getFieldName());
+    }
+
+    @Test
+    void getMemoPage_WithOversizedPage_ShouldThrowException() {
+        MemoValidationException exception = assertThrows(MemoValidationException.class, () ->
+                memoService.getMemoPage(null, null, null, MemoService.MAX_PAGE_SIZE + 1));
+
+        assertEquals("size", exception.getFieldName());
+    }
+
+
+    @Test
+    void createMemos_WithValidMemos_ShouldSaveAllInOneCall() {
+        Memo first = new Memo("First", "Content", Priority.HIGH);
+        first.setId(42L);
+        Memo second = new Memo("Second", "Content");
+        List<Memo> memos = Arrays.asList(first, second);
+        when(memoRepository.saveAll(memos)).thenReturn(memos);
+
+        List<Memo> result = memoService.createMemos(memos);
+
+        assertEquals(2, result.size());
+        assertNull(first.getId());
+        verify(memoRepository, times(1)).saveAll(memos);
+        verify(memoRepository, never()).save(any());
+        verify(statisticsCache).recordCreated(Priority.HIGH);
+        verify(statisticsCache).recordCreated(Priority.NONE);
+    }
+
+    @Test
+    void createMemos_WithOneInvalidMemo_ShouldSaveNothing() {
+        List<Memo> memos = Arrays.asList(new Memo("Valid", "Content"), new Memo(" ", "Content"));
+
+        MemoValidationException exception = assertThrows(MemoValidationException.class, () ->
+                memoService.createMemos(memos));
+
+        assertEquals("title", exception.getFieldName());
+        verify(memoRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void createMemos_WithTooManyMemos_ShouldThrowException() {
+        properties.getBulk().setMaxSize(1);
+        List<Memo> memos = Arrays.asList(new Memo("First", "Content"), new Memo("Second", "Content"));
+
+        MemoValidationException exception = assertThrows(MemoValidationException.class, () ->
+                memoService.createMemos(memos));
+
+        assertTrue(exception.getMessage().contains("more than 1 memos"));
+    }
+
+    @Test
+    void searchMemos_ShouldReturnMemosInRelevanceOrder() {
+        Memo memo2 = new Memo("Second Memo", "Second content");
+        memo2.setId(2L);
+
+        when(memoRepository.searchByText(eq("memo"), eq(Float.MAX_VALUE), eq(Long.MAX_VALUE), eq(3)))
+                .thenReturn(Arrays.asList(searchHit(2L, 0.9f), searchHit(1L, 0.4f)));
+        when(memoRepository.findSummariesByIdIn(Arrays.asList(2L, 1L)))
+                .thenReturn(Arrays.asList(MemoSummary.of(testMemo), MemoSummary.of(memo2)));
+
+        MemoPage<MemoSummary> page = memoService.searchMemos(" memo ", null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals(2L, page.getItems().get(0).getId());
+        assertEquals(1L, page.getItems().get(1).getId());
+        assertFalse(page.isHasNext());
+    }
+
+    @Test
+    void searchMemos_WhenMoreHitsThanPageSize_ShouldContinueFromLastHit() {
+        when(memoRepository.searchByText(eq("memo"), anyFloat(), anyLong(), eq(2)))
+                .thenReturn(Arrays.asList(searchHit(1L, 0.9f), searchHit(2L, 0.5f)));
+        when(memoRepository.findSummariesByIdIn(Arrays.asList(1L))).thenReturn(Arrays.asList(MemoSummary.of(testMemo)));
+
+        MemoPage<MemoSummary> first = memoService.searchMemos("memo", null, 1);
+        memoService.searchMemos("memo", first.getNextCursor(), 1);
+
+        assertTrue(first.isHasNext());
+        verify(memoRepository).searchByText("memo", 0.9f, 1L, 2);
+    }
+
+    @Test
+    void searchMemos_WithBlankQuery_ShouldThrowException() {
+        MemoValidationException exception = assertThrows(MemoValidationException.class, () ->
+                memoService.searchMemos("  ", null, null));
+
+        assertEquals("q", exception.getFieldName());
+        verify(memoRepository, never()).searchByText(any(), anyFloat(), anyLong(), anyInt());
+    }
+
+    private static MemoSearchHit searchHit(Long id, float rank) {
+        return new MemoSearchHit() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Float getRank() {
+                return rank;
+            }
+        };
+    }
+
+    private static MemoPriorityView priorityView(Long id, Priority priority) {
+        return new MemoPriorityView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Priority getPriority() {
+                return priority;
+            }
+
+            @Override
+            public long getVersion() {
+                return id * 10;
+            }
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,155 @@
+package memoapp.service;
+
+import memoapp.config.MemoProperties;
+import memoapp.dto.MemoChanges;
+import memoapp.entity.Memo;
+import memoapp.entity.MemoTombstone;
+import memoapp.entity.Priority;
+import memoapp.exception.MemoValidationException;
+import memoapp.repository.MemoRepository;
+import memoapp.repository.MemoTombstoneRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemoSyncServiceTest {
+
+    @Mock
+    private MemoRepository memoRepository;
+
+    @Mock
+    private MemoTombstoneRepository tombstoneRepository;
+
+    @Spy
+    private MemoProperties properties = new MemoProperties();
+
+    @InjectMocks
+    private MemoSyncService memoSyncService;
+
+    @Test
+    void getChanges_WithSince_ShouldReturnChangedMemosAndDeletedIds() {
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        Memo changed = memo(7L, since.plusMinutes(5));
+        when(memoRepository.findChangedAfter(eq(since), eq(0L), any())).thenReturn(List.of(changed));
+        when(tombstoneRepository.findDeletedAfter(eq(since), eq(0L), any()))
+                .thenReturn(List.of(new MemoTombstone(3L, since.plusMinutes(10))));
+
+        MemoChanges changes = memoSyncService.getChanges(since, null, null);
+
+        assertEquals(List.of(changed), changes.getMemos());
+        assertEquals(List.of(3L), changes.getDeletedIds());
+        assertFalse(changes.isHasMore());
+        assertFalse(changes.isFullResyncRequired());
+
+        SyncCursor next = SyncCursor.decode(changes.getNextCursor());
+        assertEquals(since.plusMinutes(5), next.getUpdatedAt());
+        assertEquals(7L, next.getMemoId());
+        assertEquals(3L, next.getTombstoneId());
+        verify(memoRepository).findChangedAfter(since, 0L, PageRequest.of(0, MemoSyncService.DEFAULT_SYNC_LIMIT + 1));
+    }
+
+    @Test
+    void getChanges_WhenCaughtUp_ShouldHoldCursorBehindOverlapWindow() {
+        LocalDateTime justNow = LocalDateTime.now();
+        when(memoRepository.findChangedAfter(any(), anyLong(), any())).thenReturn(List.of(memo(9L, justNow)));
+        when(tombstoneRepository.findDeletedAfter(any(), anyLong(), any())).thenReturn(List.of());
+
+        MemoChanges changes = memoSyncService.getChanges(justNow.minusMinutes(1), null, null);
+
+        SyncCursor next = SyncCursor.decode(changes.getNextCursor());
+        assertTrue(next.getUpdatedAt().isBefore(justNow.minusSeconds(9)));
+        assertEquals(0L, next.getMemoId());
+    }
+
+    @Test
+    void getChanges_WhenMoreThanLimit_ShouldReturnExactCursorAndHasMore() {
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        when(memoRepository.findChangedAfter(any(), anyLong(), any())).thenReturn(List.of(
+                memo(1L, since.plusMinutes(1)), memo(2L, since.plusMinutes(1)), memo(3L, since.plusMinutes(2))));
+        when(tombstoneRepository.findDeletedAfter(any(), anyLong(), any())).thenReturn(List.of());
+
+        MemoChanges changes = memoSyncService.getChanges(since, null, 2);
+
+        assertEquals(2, changes.getMemos().size());
+        assertTrue(changes.isHasMore());
+        SyncCursor next = SyncCursor.decode(changes.getNextCursor());
+        assertEquals(since.plusMinutes(1), next.getUpdatedAt());
+        assertEquals(2L, next.getMemoId());
+    }
+
+    @Test
+    void getChanges_WithCursor_ShouldResumeFromCursorPosition() {
+        LocalDateTime updatedAt = LocalDateTime.now().minusMinutes(30);
+        LocalDateTime deletedAt = LocalDateTime.now().minusMinutes(20);
+        String cursor = new SyncCursor(updatedAt, 5L, deletedAt, 8L).encode();
+        when(memoRepository.findChangedAfter(any(), anyLong(), any())).thenReturn(List.of());
+        when(tombstoneRepository.findDeletedAfter(any(), anyLong(), any())).thenReturn(List.of());
+
+        memoSyncService.getChanges(LocalDateTime.now().minusDays(1), cursor, 10);
+
+        verify(memoRepository).findChangedAfter(updatedAt, 5L, PageRequest.of(0, 11));
+        verify(tombstoneRepository).findDeletedAfter(deletedAt, 8L, PageRequest.of(0, 11));
+    }
+
+    @Test
+    void getChanges_WhenSinceOlderThanTombstoneRetention_ShouldRequireFullResync() {
+        MemoChanges changes = memoSyncService.getChanges(LocalDateTime.now().minusDays(31), null, null);
+
+        assertTrue(changes.isFullResyncRequired());
+        assertTrue(changes.getMemos().isEmpty());
+        verifyNoInteractions(memoRepository, tombstoneRepository);
+    }
+
+    @Test
+    void getChanges_WithoutSinceOrCursor_ShouldStartInitialSync() {
+        when(memoRepository.findChangedAfter(any(), anyLong(), any())).thenReturn(List.of());
+        when(tombstoneRepository.findDeletedAfter(any(), anyLong(), any())).thenReturn(List.of());
+
+        MemoChanges changes = memoSyncService.getChanges(null, null, null);
+
+        assertFalse(changes.isFullResyncRequired());
+        verify(memoRepository).findChangedAfter(eq(LocalDateTime.of(1970, 1, 1, 0, 0)), eq(0L), any());
+    }
+
+    @Test
+    void getChanges_WithInvalidLimit_ShouldThrowValidationException() {
+        assertThrows(MemoValidationException.class, () -> memoSyncService.getChanges(null, null, 0));
+        assertThrows(MemoValidationException.class,
+                () -> memoSyncService.getChanges(null, null, MemoSyncService.MAX_SYNC_LIMIT + 1));
+    }
+
+    @Test
+    void getChanges_WithMalformedCursor_ShouldThrowValidationException() {
+        assertThrows(MemoValidationException.class, () -> memoSyncService.getChanges(null, "not-a-cursor", null));
+    }
+
+    @Test
+    void purgeTombstones_ShouldDeleteTombstonesOlderThanRetention() {
+        when(tombstoneRepository.deleteByDeletedAtBefore(any())).thenReturn(4);
+
+        assertEquals(4, memoSyncService.purgeTombstones());
+        verify(tombstoneRepository).deleteByDeletedAtBefore(argThat(cutoff ->
+                cutoff.isBefore(LocalDateTime.now().minusDays(29))));
+    }
+
+    private static Memo memo(Long id, LocalDateTime updatedAt) {
+        Memo memo = new Memo("Memo " + id, "content", Priority.LOW);
+        memo.setId(id);
+        memo.setUpdatedAt(updatedAt);
+        return memo;
+    }
+}
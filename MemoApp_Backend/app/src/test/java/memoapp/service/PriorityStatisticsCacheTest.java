@@ -0,0 +1,171 @@
+package memoapp.service;
+
+import memoapp.dto.PriorityCount;
+import memoapp.dto.PriorityStatistics;
+import memoapp.entity.Priority;
+import memoapp.repository.MemoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriorityStatisticsCacheTest {
+
+    @Mock
+    private MemoRepository memoRepository;
+
+    @Mock
+    private MemoChangeTracker changeTracker;
+
+    @InjectMocks
+    private PriorityStatisticsCache statisticsCache;
+
+    @Test
+    void getStatistics_ShouldLoadCountsWithSingleGroupedQuery() {
+        when(memoRepository.countGroupByPriority()).thenReturn(Arrays.asList(
+                count(Priority.HIGH, 3L), count(Priority.MEDIUM, 5L), count(Priority.LOW, 2L), count(Priority.NONE, 1L)));
+
+        PriorityStatistics result = statisticsCache.getStatistics();
+
+        assertEquals(11L, result.getTotalMemos());
+        assertEquals(Priority.MEDIUM, result.getMostCommonPriority());
+        assertEquals(3L, result.getPriorityCounts().get(Priority.HIGH));
+        assertEquals(5L, result.getPriorityCounts().get(Priority.MEDIUM));
+        assertEquals(2L, result.getPriorityCounts().get(Priority.LOW));
+        assertEquals(1L, result.getPriorityCounts().get(Priority.NONE));
+        verify(memoRepository, times(1)).countGroupByPriority();
+        verify(memoRepository, never()).countByPriority(any());
+    }
+
+    @Test
+    void getStatistics_WithNoMemos_ShouldReturnNoneAsMostCommon() {
+        when(memoRepository.countGroupByPriority()).thenReturn(List.of());
+
+        PriorityStatistics result = statisticsCache.getStatistics();
+
+        assertEquals(0L, result.getTotalMemos());
+        assertEquals(Priority.NONE, result.getMostCommonPriority());
+        assertEquals(0L, result.getPriorityCounts().get(Priority.HIGH));
+    }
+
+    @Test
+    void recordedChanges_ShouldAdjustCountsWithoutQueryingAgain() {
+        when(memoRepository.countGroupByPriority()).thenReturn(List.of(count(Priority.LOW, 2L)));
+        statisticsCache.getStatistics();
+
+        statisticsCache.recordCreated(Priority.HIGH);
+        statisticsCache.recordPriorityChanged(Priority.LOW, Priority.HIGH);
+        statisticsCache.recordDeleted(Priority.LOW);
+
+        PriorityStatistics result = statisticsCache.getStatistics();
+
+        assertEquals(2L, result.getTotalMemos());
+        assertEquals(2L, result.getPriorityCounts().get(Priority.HIGH));
+        assertEquals(0L, result.getPriorityCounts().get(Priority.LOW));
+        verify(memoRepository, times(1)).countGroupByPriority();
+    }
+
+    @Test
+    void recordedChangesInTransaction_ShouldApplySummedDeltasOnceAfterCommit() {
+        when(memoRepository.countGroupByPriority()).thenReturn(List.of(count(Priority.LOW, 500L)));
+        statisticsCache.getStatistics();
+
+        List<TransactionSynchronization> synchronizations = inTransaction(() -> {
+            for (int i = 0; i < 300; i++) {
+                statisticsCache.recordPriorityChanged(Priority.LOW, Priority.HIGH);
+            }
+            statisticsCache.recordCreated(Priority.MEDIUM);
+            assertEquals(0L, statisticsCache.getStatistics().getPriorityCounts().get(Priority.HIGH));
+        }, TransactionSynchronization.STATUS_COMMITTED);
+
+        PriorityStatistics result = statisticsCache.getStatistics();
+        assertEquals(1, synchronizations.size());
+        assertEquals(200L, result.getPriorityCounts().get(Priority.LOW));
+        assertEquals(300L, result.getPriorityCounts().get(Priority.HIGH));
+        assertEquals(1L, result.getPriorityCounts().get(Priority.MEDIUM));
+        assertNull(TransactionSynchronizationManager.getResource(statisticsCache));
+    }
+
+    @Test
+    void recordedChangesInRolledBackTransaction_ShouldBeDiscarded() {
+        when(memoRepository.countGroupByPriority()).thenReturn(List.of(count(Priority.LOW, 2L)));
+        statisticsCache.getStatistics();
+
+        inTransaction(() -> statisticsCache.recordDeleted(Priority.LOW), TransactionSynchronization.STATUS_ROLLED_BACK);
+        inTransaction(() -> statisticsCache.recordCreated(Priority.LOW), TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(3L, statisticsCache.getStatistics().getPriorityCounts().get(Priority.LOW));
+    }
+
+    @Test
+    void reconcile_ShouldReplaceDriftedCounts() {
+        when(memoRepository.countGroupByPriority())
+                .thenReturn(List.of(count(Priority.LOW, 2L)))
+                .thenReturn(List.of(count(Priority.LOW, 7L)));
+        statisticsCache.getStatistics();
+        statisticsCache.recordCreated(Priority.LOW);
+
+        statisticsCache.reconcile();
+
+        assertEquals(7L, statisticsCache.getStatistics().getPriorityCounts().get(Priority.LOW));
+        verify(changeTracker).markChanged();
+    }
+
+    @Test
+    void reconcile_WithoutDriftOrOnFirstLoad_ShouldNotInvalidateETag() {
+        when(memoRepository.countGroupByPriority()).thenReturn(List.of(count(Priority.LOW, 2L)));
+        statisticsCache.getStatistics();
+        statisticsCache.recordCreated(Priority.LOW);
+        statisticsCache.recordDeleted(Priority.LOW);
+
+        statisticsCache.reconcile();
+
+        assertEquals(2L, statisticsCache.getStatistics().getPriorityCounts().get(Priority.LOW));
+        verify(changeTracker, never()).markChanged();
+    }
+
+    /**
+     * Runs the work with transaction synchronization active, then completes
+     * the registered synchronizations as the transaction manager would.
+     */
+    private static List<TransactionSynchronization> inTransaction(Runnable work, int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            for (TransactionSynchronization synchronization : synchronizations) {
+                if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                    synchronization.afterCommit();
+                }
+                synchronization.afterCompletion(status);
+            }
+            return synchronizations;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static PriorityCount count(Priority priority, long memoCount) {
+        return new PriorityCount() {
+            @Override
+            public Priority getPriority() {
+                return priority;
+            }
+
+            @Override
+            public long getMemoCount() {
+                return memoCount;
+            }
+        };
+    }
+}
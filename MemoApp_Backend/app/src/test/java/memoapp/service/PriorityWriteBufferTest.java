@@ -0,0 +1,126 @@
+package memoapp.service;
+
+import memoapp.config.MemoProperties;
+import memoapp.entity.Priority;
+import memoapp.exception.MemoValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriorityWriteBufferTest {
+
+    @Mock
+    private MemoService memoService;
+
+    private MemoProperties properties;
+
+    private PriorityWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MemoProperties();
+        // Long enough that the periodic flush never runs during a test
+        properties.getWriteBehind().setFlushInterval(Duration.ofHours(1));
+        buffer = new PriorityWriteBuffer(memoService, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (buffer.isRunning()) {
+            buffer.stop();
+        }
+    }
+
+    @Test
+    void submit_ShouldCoalesceRepeatedChangesToTheSameMemo() {
+        buffer.start();
+
+        assertTrue(buffer.submit(1L, Priority.LOW));
+        assertTrue(buffer.submit(1L, Priority.HIGH));
+        assertTrue(buffer.submit(2L, Priority.MEDIUM));
+        assertEquals(2, buffer.getPendingCount());
+
+        when(memoService.applyPriorityChanges(anyMap())).thenReturn(2);
+        assertEquals(2, buffer.flush());
+
+        verify(memoService, times(1)).applyPriorityChanges(Map.of(1L, Priority.HIGH, 2L, Priority.MEDIUM));
+        assertEquals(0, buffer.getPendingCount());
+    }
+
+    @Test
+    void submit_WhenBatchSizeIsReached_ShouldFlushInTheBackground() {
+        properties.getWriteBehind().setMaxBatchSize(2);
+        buffer.start();
+
+        buffer.submit(1L, Priority.HIGH);
+        buffer.submit(2L, Priority.LOW);
+
+        verify(memoService, timeout(5000)).applyPriorityChanges(Map.of(1L, Priority.HIGH, 2L, Priority.LOW));
+    }
+
+    @Test
+    void submit_WhenFull_ShouldRefuseChangesToFurtherMemos() {
+        properties.getWriteBehind().setCapacity(2);
+        buffer.start();
+
+        assertTrue(buffer.submit(1L, Priority.HIGH));
+        assertTrue(buffer.submit(2L, Priority.HIGH));
+        assertFalse(buffer.submit(3L, Priority.HIGH));
+
+        // A full buffer also triggers a flush, so it drains without waiting for the interval
+        verify(memoService, timeout(5000)).applyPriorityChanges(Map.of(1L, Priority.HIGH, 2L, Priority.HIGH));
+    }
+
+    @Test
+    void submit_WhenNotRunning_ShouldRefuseChanges() {
+        assertFalse(buffer.submit(1L, Priority.HIGH));
+        assertEquals(0, buffer.getPendingCount());
+    }
+
+    @Test
+    void submit_WithInvalidId_ShouldThrowValidationException() {
+        buffer.start();
+
+        assertThrows(MemoValidationException.class, () -> buffer.submit(0L, Priority.HIGH));
+        assertThrows(MemoValidationException.class, () -> buffer.submit(1L, null));
+    }
+
+    @Test
+    void flush_WhenWriteFails_ShouldKeepChangesForTheNextFlush() {
+        buffer.start();
+        buffer.submit(1L, Priority.HIGH);
+        when(memoService.applyPriorityChanges(anyMap()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(1);
+
+        assertEquals(0, buffer.flush());
+        assertEquals(1, buffer.getPendingCount());
+
+        assertEquals(1, buffer.flush());
+        assertEquals(0, buffer.getPendingCount());
+        verify(memoService, times(2)).applyPriorityChanges(Map.of(1L, Priority.HIGH));
+    }
+
+    @Test
+    void stop_ShouldFlushPendingChangesAndRefuseNewOnes() {
+        buffer.start();
+        buffer.submit(1L, Priority.LOW);
+
+        buffer.stop();
+
+        verify(memoService, times(1)).applyPriorityChanges(Map.of(1L, Priority.LOW));
+        assertFalse(buffer.isRunning());
+        assertFalse(buffer.submit(2L, Priority.HIGH));
+    }
+}
@@ -0,0 +1,110 @@
+package memoapp.benchmarks;
+
+import memoapp.App;
+import memoapp.dto.MemoPage;
+import memoapp.dto.MemoSummary;
+import memoapp.dto.PriorityStatistics;
+import memoapp.entity.Memo;
+import memoapp.entity.Priority;
+import memoapp.service.MemoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the read paths of {@link MemoService} behind the list endpoints,
+ * through the full Spring/JPA stack against an embedded H2 database.
+ * 
+ * H2 runs in-process, so the numbers reflect query building, JDBC, entity
+ * hydration and transaction overhead rather than network and PostgreSQL
+ * planning; they are meant for comparing revisions, not for capacity planning.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemoServiceBenchmark {
+
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final int SEED_BATCH_SIZE = 1000;
+    
+    @Param({"1000", "10000"})
+    private int memoCount;
+    
+    private ConfigurableApplicationContext context;
+    private MemoService memoService;
+    private Long existingId;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(App.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run();
+        memoService = context.getBean(MemoService.class);
+        
+        List<Memo> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < memoCount; i++) {
+            batch.add(new Memo("Memo " + i, "Benchmark content for memo number " + i,
+                    PRIORITIES[i % PRIORITIES.length]));
+            if (batch.size() == SEED_BATCH_SIZE || i == memoCount - 1) {
+                List<Memo> created = memoService.createMemos(batch);
+                existingId = created.get(created.size() / 2).getId();
+                batch = new ArrayList<>(SEED_BATCH_SIZE);
+            }
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public List<MemoSummary> getAllMemos() {
+        return memoService.getAllMemos();
+    }
+    
+    @Benchmark
+    public List<MemoSummary> getMemosByPriority() {
+        return memoService.getMemosByPriority(List.of(Priority.HIGH, Priority.MEDIUM));
+    }
+    
+    @Benchmark
+    public List<MemoSummary> getMemosSortedByPriorityDesc() {
+        return memoService.getMemosSortedByPriority("priority_desc");
+    }
+    
+    @Benchmark
+    public List<MemoSummary> getMemosSortedByPriorityAsc() {
+        return memoService.getMemosSortedByPriority("priority_asc");
+    }
+    
+    @Benchmark
+    public MemoPage<MemoSummary> getFirstMemoPage() {
+        return memoService.getMemoPage(List.of(Priority.HIGH), "priority_desc", null, 50);
+    }
+    
+    @Benchmark
+    public Memo getMemoById() {
+        return memoService.getMemoById(existingId);
+    }
+    
+    @Benchmark
+    public PriorityStatistics getPriorityStatistics() {
+        return memoService.getPriorityStatistics();
+    }
+}
@@ -0,0 +1,100 @@
+package memoapp.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import memoapp.dto.MemoSummary;
+import memoapp.dto.PriorityStatistics;
+import memoapp.entity.Memo;
+import memoapp.entity.Priority;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks Jackson serialization of the response bodies written on the
+ * hottest endpoints: memo lists, single memos and priority statistics.
+ * 
+ * The mapper is configured like Spring Boot's auto-configured one, so dates
+ * are written as ISO strings exactly as the API returns them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int listSize;
+    
+    private ObjectMapper objectMapper;
+    private ObjectWriter memoListWriter;
+    private Memo memo;
+    private List<MemoSummary> memos;
+    private PriorityStatistics statistics;
+    private String memoJson;
+    
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        memoListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, MemoSummary.class));
+        
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        Priority[] priorities = Priority.values();
+        memos = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            Memo item = new Memo("Memo " + i, "Benchmark content for memo number " + i,
+                    priorities[i % priorities.length]);
+            item.setId((long) i + 1);
+            item.setCreatedAt(now.plusSeconds(i));
+            item.setUpdatedAt(now.plusSeconds(i));
+            if (i == 0) {
+                memo = item;
+            }
+            memos.add(MemoSummary.of(item));
+        }
+        memoJson = objectMapper.writeValueAsString(memo);
+        
+        Map<Priority, Long> counts = new EnumMap<>(Priority.class);
+        for (Priority priority : priorities) {
+            counts.put(priority, (long) listSize / priorities.length);
+        }
+        statistics = new PriorityStatistics(counts, listSize, Priority.HIGH);
+    }
+    
+    @Benchmark
+    public byte[] serializeMemo() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(memo);
+    }
+    
+    @Benchmark
+    public byte[] serializeMemoList() throws JsonProcessingException {
+        return memoListWriter.writeValueAsBytes(memos);
+    }
+    
+    @Benchmark
+    public byte[] serializePriorityStatistics() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(statistics);
+    }
+    
+    @Benchmark
+    public Memo deserializeMemo() throws JsonProcessingException {
+        return objectMapper.readValue(memoJson, Memo.class);
+    }
+}
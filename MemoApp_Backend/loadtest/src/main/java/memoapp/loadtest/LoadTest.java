@@ -0,0 +1,76 @@
+package memoapp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import memoapp.App;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end HTTP load test for the memo API.
+ * 
+ * Targets the instance given by {@code --url}, e.g. one started locally
+ * against PostgreSQL. Without {@code --url} the application is started in
+ * this JVM on an in-memory H2 database; the generator then competes with the
+ * server for CPU, so use a separate instance for capacity numbers.
+ * 
+ * Run with {@code ./gradlew :loadtest:run --args='--help'} to list the options.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+    
+    public static void main(String[] args) throws Exception {
+        if (List.of(args).contains("--help")) {
+            System.out.print(LoadTestOptions.USAGE);
+            return;
+        }
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        
+        ConfigurableApplicationContext embedded = null;
+        URI baseUri = options.getUrl();
+        if (baseUri == null) {
+            embedded = new SpringApplicationBuilder(App.class).profiles("loadtest").run();
+            int port = ((WebServerApplicationContext) embedded).getWebServer().getPort();
+            baseUri = URI.create("http://localhost:" + port);
+        }
+        
+        try {
+            List<OperationResult> results = new LoadTestRunner(baseUri, options).run();
+            print(results);
+            if (options.getOutput() != null) {
+                Map<String, Object> report = new LinkedHashMap<>();
+                report.put("target", embedded != null ? "embedded-h2" : baseUri.toString());
+                report.put("memos", options.getMemos());
+                report.put("concurrency", options.getConcurrency());
+                report.put("durationSeconds", options.getDuration().toSeconds());
+                report.put("mix", options.getMix());
+                report.put("results", results);
+                new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                        .writeValue(options.getOutput().toFile(), report);
+                System.out.printf("Results written to %s%n", options.getOutput());
+            }
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+    
+    private static void print(List<OperationResult> results) {
+        System.out.printf("%n%-8s %10s %8s %10s %10s %10s %10s %10s%n",
+                "op", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (OperationResult result : results) {
+            System.out.printf("%-8s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    result.operation(), result.requests(), result.errors(), result.throughput(),
+                    result.p50(), result.p99(), result.p999(), result.max());
+        }
+    }
+}
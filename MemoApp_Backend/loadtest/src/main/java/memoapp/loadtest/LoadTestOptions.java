@@ -0,0 +1,137 @@
+package memoapp.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command-line options of the load test, given as {@code --name=value}.
+ */
+final class LoadTestOptions {
+
+    static final String USAGE = """
+            Options (all optional):
+              --url=http://localhost:8081   target instance; omit to start the app embedded on H2
+              --memos=1000                  memos seeded before the run
+              --concurrency=32              concurrent closed-loop clients
+              --warmup=15s                  warm-up period, excluded from the results
+              --duration=60s                measured period
+              --mix=list=60,update=25,bulk=5,stats=10
+                                            relative weights of the operations
+              --bulk-size=50                memos per bulk priority update
+              --output=results.json         also write the results as JSON
+            """;
+    
+    private URI url;
+    private int memos = 1000;
+    private int concurrency = 32;
+    private Duration warmup = Duration.ofSeconds(15);
+    private Duration duration = Duration.ofSeconds(60);
+    private Map<Operation, Integer> mix = parseMix("list=60,update=25,bulk=5,stats=10");
+    private int bulkSize = 50;
+    private Path output;
+    
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        
+        LoadTestOptions options = new LoadTestOptions();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String value = entry.getValue();
+            switch (entry.getKey()) {
+                case "url" -> options.url = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+                case "memos" -> options.memos = positive("memos", Integer.parseInt(value));
+                case "concurrency" -> options.concurrency = positive("concurrency", Integer.parseInt(value));
+                case "warmup" -> options.warmup = parseDuration(value);
+                case "duration" -> options.duration = parseDuration(value);
+                case "mix" -> options.mix = parseMix(value);
+                case "bulk-size" -> options.bulkSize = positive("bulk-size", Integer.parseInt(value));
+                case "output" -> options.output = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: --" + entry.getKey());
+            }
+        }
+        return options;
+    }
+    
+    /**
+     * Accepts ISO-8601 durations ("PT1M") and the short forms "90s", "5m" and "500ms".
+     */
+    static Duration parseDuration(String value) {
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        if (normalized.startsWith("p")) {
+            return Duration.parse(normalized.toUpperCase(Locale.ROOT));
+        }
+        if (normalized.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(normalized.substring(0, normalized.length() - 2)));
+        }
+        return Duration.parse("PT" + normalized.toUpperCase(Locale.ROOT));
+    }
+    
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight in mix but got: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weights cannot be negative: " + part);
+            }
+            weights.put(Operation.fromKey(pair[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("At least one operation needs a positive weight");
+        }
+        return weights;
+    }
+    
+    private static int positive(String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException("--" + name + " must be positive");
+        }
+        return value;
+    }
+    
+    URI getUrl() {
+        return url;
+    }
+    
+    int getMemos() {
+        return memos;
+    }
+    
+    int getConcurrency() {
+        return concurrency;
+    }
+    
+    Duration getWarmup() {
+        return warmup;
+    }
+    
+    Duration getDuration() {
+        return duration;
+    }
+    
+    Map<Operation, Integer> getMix() {
+        return mix;
+    }
+    
+    int getBulkSize() {
+        return bulkSize;
+    }
+    
+    Path getOutput() {
+        return output;
+    }
+}
@@ -0,0 +1,221 @@
+package memoapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Seeds memos, then drives the configured operation mix with a fixed number
+ * of closed-loop clients and records per-operation latencies in HdrHistograms.
+ * 
+ * Each client sends its next request as soon as the previous one completes,
+ * so when the server slows down the offered load drops with it: the reported
+ * percentiles are service times at the achieved throughput, not latencies at
+ * a fixed arrival rate. Compare runs at the same concurrency.
+ */
+final class LoadTestRunner {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final String[] PRIORITIES = {"HIGH", "MEDIUM", "LOW", "NONE"};
+    private static final String[] LIST_QUERIES = {
+        "", "?priority=HIGH", "?priority=HIGH,MEDIUM", "?priority=LOW,NONE", "?sort=priority_desc", "?sort=priority_asc"
+    };
+    
+    private final URI baseUri;
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private long[] memoIds;
+    
+    LoadTestRunner(URI baseUri, LoadTestOptions options) {
+        this.baseUri = baseUri;
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        
+        List<Map.Entry<Operation, Integer>> weighted = options.getMix().entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .toList();
+        this.operations = new Operation[weighted.size()];
+        this.cumulativeWeights = new int[weighted.size()];
+        int total = 0;
+        for (int i = 0; i < weighted.size(); i++) {
+            total += weighted.get(i).getValue();
+            operations[i] = weighted.get(i).getKey();
+            cumulativeWeights[i] = total;
+        }
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+    
+    List<OperationResult> run() throws IOException, InterruptedException {
+        seed();
+        
+        System.out.printf("Warming up for %s with %d clients%n", options.getWarmup(), options.getConcurrency());
+        drive(options.getWarmup());
+        for (Operation operation : Operation.values()) {
+            recorders.get(operation).reset();
+            errors.get(operation).reset();
+        }
+        
+        System.out.printf("Measuring for %s%n", options.getDuration());
+        long started = System.nanoTime();
+        drive(options.getDuration());
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        
+        List<OperationResult> results = new ArrayList<>();
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        long totalErrors = 0;
+        for (Operation operation : operations) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            long operationErrors = errors.get(operation).sum();
+            results.add(OperationResult.of(operation.getKey(), histogram, operationErrors, elapsedSeconds));
+            total.add(histogram);
+            totalErrors += operationErrors;
+        }
+        results.add(OperationResult.of("total", total, totalErrors, elapsedSeconds));
+        return results;
+    }
+    
+    /**
+     * Creates the memos through the bulk endpoint, spread evenly over the
+     * priorities, and remembers their IDs as targets for updates.
+     */
+    private void seed() throws IOException, InterruptedException {
+        System.out.printf("Seeding %d memos into %s%n", options.getMemos(), baseUri);
+        memoIds = new long[options.getMemos()];
+        int created = 0;
+        while (created < memoIds.length) {
+            int batchSize = Math.min(SEED_BATCH_SIZE, memoIds.length - created);
+            ArrayNode batch = objectMapper.createArrayNode();
+            for (int i = 0; i < batchSize; i++) {
+                int n = created + i;
+                batch.addObject()
+                        .put("title", "Load test memo " + n)
+                        .put("content", "Seeded content for load test memo number " + n)
+                        .put("priority", PRIORITIES[n % PRIORITIES.length]);
+            }
+            
+            HttpResponse<String> response = client.send(
+                    json("/api/memos/bulk").POST(body(batch)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("Seeding failed with HTTP " + response.statusCode() + ": " + response.body());
+            }
+            for (JsonNode memo : objectMapper.readTree(response.body())) {
+                memoIds[created++] = memo.get("id").asLong();
+            }
+        }
+    }
+    
+    private void drive(Duration period) {
+        long deadline = System.nanoTime() + period.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.getConcurrency(); i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        execute(pickOperation());
+                    }
+                });
+            }
+        }
+    }
+    
+    private void execute(Operation operation) {
+        HttpRequest request = request(operation);
+        long started = System.nanoTime();
+        boolean failed;
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            failed = response.statusCode() / 100 != 2;
+        } catch (IOException e) {
+            failed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        recorders.get(operation).recordValue(Math.min(System.nanoTime() - started, HIGHEST_TRACKABLE_NANOS));
+        if (failed) {
+            errors.get(operation).increment();
+        }
+    }
+    
+    private Operation pickOperation() {
+        int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+    
+    private HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String priority = PRIORITIES[random.nextInt(PRIORITIES.length)];
+        return switch (operation) {
+            case LIST -> json("/api/memos" + LIST_QUERIES[random.nextInt(LIST_QUERIES.length)]).GET().build();
+            case UPDATE -> {
+                ObjectNode body = objectMapper.createObjectNode().put("priority", priority);
+                long id = memoIds[random.nextInt(memoIds.length)];
+                yield json("/api/memos/" + id + "/priority").PUT(body(body)).build();
+            }
+            case BULK -> {
+                // A contiguous run of seeded IDs starting at a random offset, so IDs are distinct
+                int size = Math.min(options.getBulkSize(), memoIds.length);
+                int offset = random.nextInt(memoIds.length - size + 1);
+                ObjectNode body = objectMapper.createObjectNode().put("priority", priority);
+                ArrayNode ids = body.putArray("memoIds");
+                for (int i = offset; i < offset + size; i++) {
+                    ids.add(memoIds[i]);
+                }
+                yield json("/api/memos/bulk/priority").POST(body(body)).build();
+            }
+            case STATS -> json("/api/memos/stats/priority").GET().build();
+        };
+    }
+    
+    private HttpRequest.Builder json(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json");
+    }
+    
+    private HttpRequest.BodyPublisher body(JsonNode node) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(node));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package memoapp.loadtest;
+
+/**
+ * Request types driven by the load test. Each name is the key used in the
+ * {@code --mix} option.
+ */
+enum Operation {
+
+    /** {@code GET /api/memos} with a random priority filter or sort order. */
+    LIST("list"),
+    
+    /** {@code PUT /api/memos/{id}/priority} on a random seeded memo. */
+    UPDATE("update"),
+    
+    /** {@code POST /api/memos/bulk/priority} on random seeded memos. */
+    BULK("bulk"),
+    
+    /** {@code GET /api/memos/stats/priority}. */
+    STATS("stats");
+    
+    private final String key;
+    
+    Operation(String key) {
+        this.key = key;
+    }
+    
+    String getKey() {
+        return key;
+    }
+    
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation in mix: " + key);
+    }
+}
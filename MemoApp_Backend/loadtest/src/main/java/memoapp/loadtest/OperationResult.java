@@ -0,0 +1,25 @@
+package memoapp.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Throughput and latency of one operation (or of all of them) over the
+ * measured period. Latencies are in milliseconds.
+ */
+record OperationResult(String operation, long requests, long errors, double throughput,
+                       double p50, double p99, double p999, double max) {
+    
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    
+    static OperationResult of(String operation, Histogram histogram, long errors, double elapsedSeconds) {
+        return new OperationResult(
+                operation,
+                histogram.getTotalCount(),
+                errors,
+                histogram.getTotalCount() / elapsedSeconds,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+}
@@ -19,6 +19,7 @@ export class MemoForm implements OnInit {
   loading = false;
   error: string | null = null;
   selectedPriority?: Priority;
+  private etag: string | null = null;
 
   constructor(
     private fb: FormBuilder,
@@ -45,8 +46,9 @@ export class MemoForm implements OnInit {
   loadMemo(): void {
     if (this.memoId) {
       this.loading = true;
-      this.memoService.getMemoById(this.memoId).subscribe({
-        next: (memo) => {
+      this.memoService.getMemoForEdit(this.memoId).subscribe({
+        next: ({ memo, etag }) => {
+          this.etag = etag;
           this.memoForm.patchValue({
             title: memo.title,
             content: memo.content
@@ -74,12 +76,14 @@ export class MemoForm implements OnInit {
       };
 
       if (this.isEditMode && this.memoId) {
-        this.memoService.updateMemo(this.memoId, memoData).subscribe({
+        this.memoService.updateMemo(this.memoId, memoData, this.etag).subscribe({
           next: () => {
             this.router.navigate(['/']);
           },
           error: (err) => {
-            this.error = 'Failed to update memo';
+            this.error = err.status === 412
+              ? 'This memo was changed by someone else. Reload it to see the latest version before saving.'
+              : 'Failed to update memo';
             this.loading = false;
             console.error('Error updating memo:', err);
           }
@@ -1,8 +1,9 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, OnDestroy, OnInit } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { RouterModule } from '@angular/router';
 import { FormsModule } from '@angular/forms';
-import { Memo, Priority } from '../../models/memo.model';
+import { Subscription } from 'rxjs';
+import { MemoChangeNotification, MemoSummary, Priority, toMemoSummary } from '../../models/memo.model';
 import { MemoService } from '../../services/memo.service';
 import { PrioritySelector } from '../priority-selector/priority-selector';
 import { PriorityStatsComponent } from '../priority-stats/priority-stats';
@@ -15,13 +16,14 @@ import { PriorityStatsComponent } from '../priority-stats/priority-stats';
   templateUrl: './memo-list.html',
   styleUrl: './memo-list.css'
 })
-export class MemoList implements OnInit {
-  memos: Memo[] = [];
+export class MemoList implements OnInit, OnDestroy {
+  memos: MemoSummary[] = [];
   loading = false;
   error: string | null = null;
   selectedPriorityFilter = '';
   selectedSort = '';
   selectedMemos = new Set<number>();
+  private memoChangeSubscription?: Subscription;
 
   priorities: { value: Priority; label: string; color: string }[] = [
     { value: 'HIGH', label: 'High', color: '#dc3545' },
@@ -33,6 +35,59 @@ export class MemoList implements OnInit {
 
   ngOnInit(): void {
     this.loadMemos();
+
+    this.memoChangeSubscription = this.memoService.memoChanges$.subscribe(change => {
+      this.applyChange(change);
+    });
+  }
+
+  ngOnDestroy(): void {
+    if (this.memoChangeSubscription) {
+      this.memoChangeSubscription.unsubscribe();
+    }
+  }
+
+  /**
+   * Applies a change pushed by the server instead of reloading the whole list.
+   * Only created and updated memos are fetched, one at a time.
+   */
+  applyChange(change: MemoChangeNotification): void {
+    const index = this.memos.findIndex(memo => memo.id === change.memoId);
+
+    if (change.type === 'deleted') {
+      this.memos = this.memos.filter(memo => memo.id !== change.memoId);
+      this.selectedMemos.delete(change.memoId);
+      return;
+    }
+
+    if (change.type === 'priority_changed') {
+      if (index === -1) return;
+      if (this.selectedPriorityFilter && change.priority !== this.selectedPriorityFilter) {
+        this.memos = this.memos.filter(memo => memo.id !== change.memoId);
+        return;
+      }
+      this.memos[index].priority = change.priority;
+      this.memos[index].updatedAt = change.updatedAt;
+      return;
+    }
+
+    // Skip changes this list already reflects, e.g. our own edits
+    if (index !== -1 && this.memos[index].updatedAt === change.updatedAt) return;
+    if (index === -1 && change.type === 'updated') return;
+
+    this.memoService.getMemoById(change.memoId).subscribe({
+      next: (fullMemo) => {
+        const memo = toMemoSummary(fullMemo);
+        if (this.selectedPriorityFilter && memo.priority !== this.selectedPriorityFilter) return;
+        const current = this.memos.findIndex(existing => existing.id === memo.id);
+        if (current !== -1) {
+          this.memos[current] = memo;
+        } else {
+          this.memos = [memo, ...this.memos];
+        }
+      },
+      error: (err) => console.error('Error applying memo change:', err)
+    });
   }
 
   loadMemos(): void {
@@ -96,10 +151,14 @@ export class MemoList implements OnInit {
     if (!priority) return;
 
     this.memoService.updateMemoPriority(id, { priority }).subscribe({
-      next: (updatedMemo) => {
-        const index = this.memos.findIndex(memo => memo.id === id);
-        if (index !== -1) {
-          this.memos[index] = updatedMemo;
+      next: (result) => {
+        const memo = this.memos.find(existing => existing.id === id);
+        if (memo) {
+          // null when the server buffered the change (202 Accepted); it is written shortly
+          memo.priority = result ? result.priority : priority;
+          if (result) {
+            memo.updatedAt = result.updatedAt;
+          }
         }
       },
       error: (err) => {
@@ -114,11 +173,12 @@ export class MemoList implements OnInit {
 
     const memoIds = Array.from(this.selectedMemos);
     this.memoService.bulkUpdatePriority({ memoIds, priority }).subscribe({
-      next: (updatedMemos) => {
-        updatedMemos.forEach(updatedMemo => {
-          const index = this.memos.findIndex(memo => memo.id === updatedMemo.id);
-          if (index !== -1) {
-            this.memos[index] = updatedMemo;
+      next: (result) => {
+        const updatedIds = new Set(result.memoIds);
+        this.memos.forEach(memo => {
+          if (memo.id !== undefined && updatedIds.has(memo.id)) {
+            memo.priority = result.priority;
+            memo.updatedAt = result.updatedAt;
           }
         });
         this.selectedMemos.clear();
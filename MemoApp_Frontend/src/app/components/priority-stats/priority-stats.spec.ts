@@ -1,7 +1,7 @@
 import { ComponentFixture, TestBed } from '@angular/core/testing';
 import { PriorityStatsComponent } from './priority-stats';
 import { MemoService } from '../../services/memo.service';
-import { of, throwError } from 'rxjs';
+import { NEVER, of, throwError } from 'rxjs';
 
 describe('PriorityStatsComponent', () => {
   let component: PriorityStatsComponent;
@@ -10,7 +10,8 @@ describe('PriorityStatsComponent', () => {
 
   beforeEach(async () => {
     const spy = jasmine.createSpyObj('MemoService', ['getPriorityStats'], {
-      memoUpdated$: of(void 0)
+      memoUpdated$: of(void 0),
+      memoChanges$: NEVER
     });
 
     await TestBed.configureTestingModule({
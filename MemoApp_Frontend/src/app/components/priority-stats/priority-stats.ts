@@ -1,6 +1,7 @@
 import { Component, OnInit, OnDestroy } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { Subscription } from 'rxjs';
+import { debounceTime } from 'rxjs/operators';
 import { PriorityStats, Priority } from '../../models/memo.model';
 import { MemoService } from '../../services/memo.service';
 
@@ -15,6 +16,7 @@ export class PriorityStatsComponent implements OnInit, OnDestroy {
   loading = false;
   error: string | null = null;
   private memoUpdateSubscription?: Subscription;
+  private memoChangeSubscription?: Subscription;
 
   priorityConfig = [
     { key: 'high', label: 'High Priority', color: '#dc3545', icon: 'fas fa-exclamation-circle' },
@@ -30,12 +32,22 @@ export class PriorityStatsComponent implements OnInit, OnDestroy {
     this.memoUpdateSubscription = this.memoService.memoUpdated$.subscribe(() => {
       this.loadStats();
     });
+
+    // Changes made by other clients; stats are served from cached counts, so reloading is cheap
+    this.memoChangeSubscription = this.memoService.memoChanges$.pipe(
+      debounceTime(500)
+    ).subscribe(() => {
+      this.loadStats();
+    });
   }
 
   ngOnDestroy(): void {
     if (this.memoUpdateSubscription) {
       this.memoUpdateSubscription.unsubscribe();
     }
+    if (this.memoChangeSubscription) {
+      this.memoChangeSubscription.unsubscribe();
+    }
   }
 
   loadStats(): void {
@@ -7,6 +7,39 @@ export interface Memo {
   priority?: Priority;
   createdAt?: string;
   updatedAt?: string;
+  version?: number;
+}
+
+// Memo together with the ETag to send back as If-Match when updating it
+export interface VersionedMemo {
+  memo: Memo;
+  etag: string | null;
+}
+
+// Memo as returned by list endpoints; the full content comes from GET /api/memos/{id}
+export interface MemoSummary {
+  id?: number;
+  title: string;
+  contentPreview: string;
+  contentTruncated: boolean;
+  priority?: Priority;
+  createdAt?: string;
+  updatedAt?: string;
+}
+
+export const MEMO_PREVIEW_LENGTH = 200;
+
+export function toMemoSummary(memo: Memo): MemoSummary {
+  const content = memo.content ?? '';
+  return {
+    id: memo.id,
+    title: memo.title,
+    contentPreview: content.substring(0, MEMO_PREVIEW_LENGTH),
+    contentTruncated: content.length > MEMO_PREVIEW_LENGTH,
+    priority: memo.priority,
+    createdAt: memo.createdAt,
+    updatedAt: memo.updatedAt
+  };
 }
 
 export interface CreateMemoRequest {
@@ -25,11 +58,25 @@ export interface PriorityUpdateRequest {
   priority: Priority;
 }
 
+export interface PriorityUpdateResult {
+  id: number;
+  priority: Priority;
+  updatedAt: string;
+  version: number;
+}
+
 export interface BulkPriorityUpdateRequest {
   memoIds: number[];
   priority: Priority;
 }
 
+export interface BulkPriorityUpdateResult {
+  memoIds: number[];
+  priority: Priority;
+  updatedCount: number;
+  updatedAt: string;
+}
+
 export interface PriorityStats {
   priorityCounts: {
     HIGH: number;
@@ -39,4 +86,13 @@ export interface PriorityStats {
   };
   totalMemos: number;
   mostCommonPriority: string;
-}
\ No newline at end of file
+}
+export type MemoChangeType = 'created' | 'updated' | 'priority_changed' | 'deleted';
+
+export interface MemoChangeNotification {
+  type: MemoChangeType;
+  memoId: number;
+  priority?: Priority;
+  updatedAt?: string;
+  version: number;
+}
@@ -1,8 +1,8 @@
-import { Injectable } from '@angular/core';
-import { HttpClient, HttpParams } from '@angular/common/http';
-import { Observable, Subject } from 'rxjs';
-import { tap } from 'rxjs/operators';
-import { Memo, CreateMemoRequest, UpdateMemoRequest, PriorityUpdateRequest, BulkPriorityUpdateRequest, PriorityStats, Priority } from '../models/memo.model';
+import { Injectable, NgZone } from '@angular/core';
+import { HttpClient, HttpHeaders, HttpParams } from '@angular/common/http';
+import { Observable, Subject, throwError, timer } from 'rxjs';
+import { map, retry, share, tap } from 'rxjs/operators';
+import { Memo, VersionedMemo, MemoSummary, CreateMemoRequest, UpdateMemoRequest, PriorityUpdateRequest, PriorityUpdateResult, BulkPriorityUpdateRequest, BulkPriorityUpdateResult, MemoChangeNotification, MemoChangeType, PriorityStats, Priority } from '../models/memo.model';
 import { environment } from '../../environments/environment';
 
 @Injectable({
@@ -11,18 +11,36 @@ import { environment } from '../../environments/environment';
 export class MemoService {
   private apiUrl = `${environment.apiUrl}/memos`;
   private memoUpdateSubject = new Subject<void>();
+  private memoChanges = new Observable<MemoChangeNotification>(subscriber => {
+    const source = new EventSource(`${this.apiUrl}/events`);
+    const changeTypes: MemoChangeType[] = ['created', 'updated', 'priority_changed', 'deleted'];
+    const listener = (event: MessageEvent) => {
+      this.zone.run(() => subscriber.next(JSON.parse(event.data) as MemoChangeNotification));
+    };
+    changeTypes.forEach(type => source.addEventListener(type, listener as EventListener));
+    return () => source.close();
+  }).pipe(share());
 
-  constructor(private http: HttpClient) { }
+  constructor(private http: HttpClient, private zone: NgZone) { }
 
   get memoUpdated$(): Observable<void> {
     return this.memoUpdateSubject.asObservable();
   }
 
+  /**
+   * Committed memo changes from all clients, pushed by the server over
+   * Server-Sent Events. The connection is shared between subscribers and
+   * closed when the last one unsubscribes; the browser reconnects on its own.
+   */
+  get memoChanges$(): Observable<MemoChangeNotification> {
+    return this.memoChanges;
+  }
+
   private notifyMemoUpdate(): void {
     this.memoUpdateSubject.next();
   }
 
-  getAllMemos(priority?: string, sort?: string): Observable<Memo[]> {
+  getAllMemos(priority?: string, sort?: string): Observable<MemoSummary[]> {
     let params = new HttpParams();
     
     if (priority) {
@@ -33,21 +51,39 @@ export class MemoService {
       params = params.set('sort', sort);
     }
     
-    return this.http.get<Memo[]>(this.apiUrl, { params });
+    return this.http.get<MemoSummary[]>(this.apiUrl, { params });
   }
 
   getMemoById(id: number): Observable<Memo> {
     return this.http.get<Memo>(`${this.apiUrl}/${id}`);
   }
 
+  /**
+   * Loads a memo along with its ETag, for editing it with a conditional update.
+   */
+  getMemoForEdit(id: number): Observable<VersionedMemo> {
+    return this.http.get<Memo>(`${this.apiUrl}/${id}`, { observe: 'response' }).pipe(
+      map(response => ({ memo: response.body as Memo, etag: response.headers.get('ETag') }))
+    );
+  }
+
+  /**
+   * Creates a memo. The request carries an Idempotency-Key, so it is retried
+   * on network errors without risking a duplicate memo.
+   */
   createMemo(memo: CreateMemoRequest): Observable<Memo> {
-    return this.http.post<Memo>(this.apiUrl, memo).pipe(
+    return this.idempotentPost<Memo>(this.apiUrl, memo).pipe(
       tap(() => this.notifyMemoUpdate())
     );
   }
 
-  updateMemo(id: number, memo: UpdateMemoRequest): Observable<Memo> {
-    return this.http.put<Memo>(`${this.apiUrl}/${id}`, memo).pipe(
+  /**
+   * Updates a memo. With an ETag from getMemoForEdit the update only succeeds
+   * if nobody changed the memo in the meantime; otherwise it fails with 412.
+   */
+  updateMemo(id: number, memo: UpdateMemoRequest, etag?: string | null): Observable<Memo> {
+    const headers = etag ? new HttpHeaders({ 'If-Match': etag }) : undefined;
+    return this.http.put<Memo>(`${this.apiUrl}/${id}`, memo, { headers }).pipe(
       tap(() => this.notifyMemoUpdate())
     );
   }
@@ -58,14 +94,18 @@ export class MemoService {
     );
   }
 
-  updateMemoPriority(id: number, priorityRequest: PriorityUpdateRequest): Observable<Memo> {
-    return this.http.put<Memo>(`${this.apiUrl}/${id}/priority`, priorityRequest).pipe(
+  /**
+   * Changes a memo's priority. Emits null if the server buffers the change
+   * (202 Accepted with write-behind enabled) instead of writing it right away.
+   */
+  updateMemoPriority(id: number, priorityRequest: PriorityUpdateRequest): Observable<PriorityUpdateResult | null> {
+    return this.http.put<PriorityUpdateResult | null>(`${this.apiUrl}/${id}/priority`, priorityRequest).pipe(
       tap(() => this.notifyMemoUpdate())
     );
   }
 
-  bulkUpdatePriority(bulkRequest: BulkPriorityUpdateRequest): Observable<Memo[]> {
-    return this.http.post<Memo[]>(`${this.apiUrl}/bulk/priority`, bulkRequest).pipe(
+  bulkUpdatePriority(bulkRequest: BulkPriorityUpdateRequest): Observable<BulkPriorityUpdateResult> {
+    return this.idempotentPost<BulkPriorityUpdateResult>(`${this.apiUrl}/bulk/priority`, bulkRequest).pipe(
       tap(() => this.notifyMemoUpdate())
     );
   }
@@ -73,4 +113,19 @@ export class MemoService {
   getPriorityStats(): Observable<PriorityStats> {
     return this.http.get<PriorityStats>(`${this.apiUrl}/stats/priority`);
   }
+
+  /**
+   * Posts with one Idempotency-Key for all attempts and retries only when the
+   * server could not be reached (status 0). The server replays the first
+   * response if an earlier attempt got through.
+   */
+  private idempotentPost<T>(url: string, body: unknown): Observable<T> {
+    const headers = new HttpHeaders({ 'Idempotency-Key': crypto.randomUUID() });
+    return this.http.post<T>(url, body, { headers }).pipe(
+      retry({
+        count: 2,
+        delay: (error, attempt) => error?.status === 0 ? timer(attempt * 500) : throwError(() => error)
+      })
+    );
+  }
 }
\ No newline at end of file